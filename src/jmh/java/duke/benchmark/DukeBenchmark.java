@@ -0,0 +1,73 @@
+package duke.benchmark;
+
+import duke.error.DukeException;
+import duke.io.Storage;
+import duke.ui.Duke;
+import duke.ui.Response;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks Duke responding to the user's input, from parsing the input to rendering the text of the Response.
+ *
+ * <p>Only commands which leave the TaskList unchanged are measured, so that every invocation sees the same list.
+ * Commands which change the list also save it, which StorageBenchmark measures on its own.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DukeBenchmark {
+    private static final Map<String, String> COMMANDS = Map.of(
+            "find", "find %s",
+            "relaxfind", "relaxfind %s",
+            "list", "list /page 1 /size 20");
+
+    @Param({"1000", "100000"})
+    public int taskCount;
+
+    @Param({"find", "relaxfind", "list"})
+    public String command;
+
+    private Duke duke;
+    private String input;
+
+    /**
+     * Saves a generated TaskList, and loads it into a new Duke.
+     *
+     * @throws DukeException when the save file cannot be written
+     */
+    @Setup
+    public void setUp() throws DukeException {
+        SyntheticTasks tasks = new SyntheticTasks(SyntheticTasks.SEED, SyntheticTasks.VOCABULARY_SIZE);
+        String saveFileName = "DukeBenchmark" + taskCount;
+        new Storage(saveFileName).save(tasks.nextTaskList(taskCount));
+
+        duke = new Duke();
+        duke.greet();
+        Response loaded = duke.getResponse("load " + saveFileName);
+        if (loaded.wasCausedByError()) {
+            throw new IllegalStateException(loaded.toString());
+        }
+
+        String keyword = command.equals("relaxfind")
+                ? SyntheticTasks.misspell(new Random(SyntheticTasks.SEED), tasks.getWord(0), 1)
+                : tasks.getWord(0);
+        input = String.format(COMMANDS.get(command), keyword);
+    }
+
+    @Benchmark
+    public String getResponse() {
+        return duke.getResponse(input).toString();
+    }
+}
@@ -0,0 +1,57 @@
+package duke.benchmark;
+
+import duke.util.Match;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks matching words within a few edits of each other, for words of different lengths.
+ *
+ * <p>Each word is compared with the same word with a few letters replaced, which matches when there are at most as
+ * many replacements as the threshold, and with an unrelated word of the same length, which does not match and
+ * should be rejected early.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MatchBenchmark {
+    private static final int THRESHOLD = 3;
+
+    @Param({"4", "8", "16", "32"})
+    public int wordLength;
+
+    @Param({"1", "3"})
+    public int edits;
+
+    private String word;
+    private String misspeltWord;
+    private String unrelatedWord;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(SyntheticTasks.SEED);
+        word = SyntheticTasks.word(random, wordLength);
+        misspeltWord = SyntheticTasks.misspell(random, word, edits);
+        unrelatedWord = SyntheticTasks.word(random, wordLength);
+    }
+
+    @Benchmark
+    public boolean matchFuzzy() {
+        return Match.matchFuzzy(word, misspeltWord, THRESHOLD);
+    }
+
+    @Benchmark
+    public boolean matchFuzzyUnrelated() {
+        return Match.matchFuzzy(word, unrelatedWord, THRESHOLD);
+    }
+}
@@ -0,0 +1,81 @@
+package duke.benchmark;
+
+import duke.command.Command;
+import duke.command.Parser;
+import duke.error.DukeException;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks parsing the user's input as a Command, and parsing dates and times.
+ *
+ * <p>The inputs are chosen through separate States, so that each benchmark only runs once for each of its own
+ * inputs.</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ParserBenchmark {
+    private static final Map<String, String> INPUTS = Map.of(
+            "todo", "todo read book about the history of computing",
+            "deadline", "deadline return book /by 02/12/2019 1800",
+            "event", "event project meeting /at 15/10/2019 1400",
+            "list", "list /page 2 /size 20",
+            "find", "find book",
+            "done", "done 12");
+
+    @Benchmark
+    public Command parseAsCommand(CommandInput command) throws DukeException {
+        return Parser.parseAsCommand(command.input);
+    }
+
+    /**
+     * Parses the date and time, which may not be in dd/MM/yyyy HHmm format, in which case the exception thrown
+     * is part of what is measured.
+     *
+     * @param dateTime The date and time to parse
+     * @return The formatted date and time, or null if it could not be parsed
+     */
+    @Benchmark
+    public String parseDateTime(DateTimeInput dateTime) {
+        try {
+            return Parser.parseDateTime(dateTime.input);
+        } catch (DukeException exception) {
+            return null;
+        }
+    }
+
+    /**
+     * The input given to parse as a Command, named by its command word.
+     */
+    @State(Scope.Benchmark)
+    public static class CommandInput {
+        @Param({"todo", "deadline", "event", "list", "find", "done"})
+        public String command;
+
+        private String input;
+
+        @Setup
+        public void setUp() {
+            input = INPUTS.get(command);
+        }
+    }
+
+    /**
+     * The input given to parse as a date and time: valid, past the end of the month, and not a date at all.
+     */
+    @State(Scope.Benchmark)
+    public static class DateTimeInput {
+        @Param({"02/12/2019 1800", "31/02/2019 0000", "tomorrow evening"})
+        public String input;
+    }
+}
@@ -0,0 +1,59 @@
+package duke.benchmark;
+
+import duke.tasklist.Task;
+import duke.tasklist.TaskList;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks searching a TaskList, both for an exact word and for words within a few edits of a keyword.
+ *
+ * <p>The keyword is a word of the vocabulary the descriptions are made of, so each search finds roughly the same
+ * share of the Tasks whatever the size of the TaskList. The relaxed search is given the keyword with one letter
+ * replaced, as a user making a typo would.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SearchBenchmark {
+    @Param({"1000", "100000", "1000000"})
+    public int taskCount;
+
+    private TaskList taskList;
+    private String keyword;
+    private String misspeltKeyword;
+
+    /**
+     * Generates the TaskList and the keywords to search for, then searches once so that later searches
+     * measure a TaskList which has already been searched, as in Duke.
+     */
+    @Setup
+    public void setUp() {
+        SyntheticTasks tasks = new SyntheticTasks(SyntheticTasks.SEED, SyntheticTasks.VOCABULARY_SIZE);
+        taskList = tasks.nextTaskList(taskCount);
+        keyword = tasks.getWord(0);
+        misspeltKeyword = SyntheticTasks.misspell(new Random(SyntheticTasks.SEED), keyword, 1);
+        taskList.search(keyword);
+    }
+
+    @Benchmark
+    public List<Task> search() {
+        return taskList.search(keyword);
+    }
+
+    @Benchmark
+    public List<Task> relaxedSearch() {
+        return taskList.relaxedSearch(misspeltKeyword);
+    }
+}
@@ -0,0 +1,55 @@
+package duke.benchmark;
+
+import duke.error.DukeException;
+import duke.io.Storage;
+import duke.tasklist.TaskList;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks saving a TaskList to, and loading it from, a save file.
+ *
+ * <p>The save files are named after the number of Tasks in them, and are written to the DukeSaveFiles folder
+ * next to the benchmark jar, so they do not replace any list saved by Duke itself.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class StorageBenchmark {
+    @Param({"1000", "100000", "1000000"})
+    public int taskCount;
+
+    private Storage storage;
+    private TaskList taskList;
+
+    /**
+     * Generates the TaskList, and saves it once so that there is a save file to load.
+     *
+     * @throws DukeException when the save file cannot be written
+     */
+    @Setup
+    public void setUp() throws DukeException {
+        storage = new Storage("StorageBenchmark" + taskCount);
+        taskList = new SyntheticTasks(SyntheticTasks.SEED, SyntheticTasks.VOCABULARY_SIZE).nextTaskList(taskCount);
+        storage.save(taskList);
+    }
+
+    @Benchmark
+    public void save() throws DukeException {
+        storage.save(taskList);
+    }
+
+    @Benchmark
+    public TaskList loadTaskList() throws DukeException {
+        return storage.loadTaskList();
+    }
+}
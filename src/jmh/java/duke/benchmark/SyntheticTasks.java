@@ -0,0 +1,145 @@
+package duke.benchmark;
+
+import duke.tasklist.Deadline;
+import duke.tasklist.Event;
+import duke.tasklist.Task;
+import duke.tasklist.TaskList;
+import duke.tasklist.ToDo;
+
+import java.util.Random;
+
+/**
+ * A generator of synthetic Tasks and words for the benchmarks.
+ *
+ * <p>Everything is generated from a fixed seed, so that every run of a benchmark measures the same data and
+ * results can be compared between releases. Descriptions are made of words drawn from a vocabulary of made up
+ * words, so that searching for a word of the vocabulary finds a predictable share of the Tasks.</p>
+ */
+public class SyntheticTasks {
+    static final long SEED = 42;
+    static final int VOCABULARY_SIZE = 1000;
+
+    private static final char[] LETTERS = "abcdefghijklmnopqrstuvwxyz".toCharArray();
+    private static final int MIN_WORD_LENGTH = 3;
+    private static final int MAX_WORD_LENGTH = 10;
+    private static final int MAX_WORDS_PER_DESCRIPTION = 8;
+
+    private final Random random;
+    private final String[] vocabulary;
+
+    /**
+     * Constructs a generator of Tasks, with descriptions drawn from a vocabulary of the given size.
+     *
+     * @param seed The seed of the random numbers used
+     * @param vocabularySize The number of different words used in descriptions
+     */
+    public SyntheticTasks(long seed, int vocabularySize) {
+        assert vocabularySize > 0;
+        random = new Random(seed);
+        vocabulary = new String[vocabularySize];
+        for (int i = 0; i < vocabularySize; i++) {
+            vocabulary[i] = word(random, MIN_WORD_LENGTH + random.nextInt(MAX_WORD_LENGTH - MIN_WORD_LENGTH + 1));
+        }
+    }
+
+    /**
+     * Returns the word of the vocabulary at the given position.
+     *
+     * @param index The position of the word, starting from 0
+     * @return The word
+     */
+    public String getWord(int index) {
+        return vocabulary[index];
+    }
+
+    /**
+     * Returns a description of one to several words of the vocabulary.
+     *
+     * @return The description
+     */
+    public String nextDescription() {
+        int wordCount = 1 + random.nextInt(MAX_WORDS_PER_DESCRIPTION);
+        StringBuilder description = new StringBuilder(vocabulary[random.nextInt(vocabulary.length)]);
+        for (int i = 1; i < wordCount; i++) {
+            description.append(' ').append(vocabulary[random.nextInt(vocabulary.length)]);
+        }
+        return description.toString();
+    }
+
+    /**
+     * Returns a date and time in dd/MM/yyyy HHmm format, within a few years of 2019.
+     *
+     * @return The date and time
+     */
+    public String nextDateTime() {
+        return String.format("%02d/%02d/%04d %02d%02d",
+                1 + random.nextInt(28), 1 + random.nextInt(12), 2018 + random.nextInt(4),
+                random.nextInt(24), random.nextInt(60));
+    }
+
+    /**
+     * Returns a Task with a generated description: a todo half of the time, and otherwise a deadline or an
+     * event, with a quarter of the Tasks complete.
+     *
+     * @return The Task
+     */
+    public Task nextTask() {
+        boolean isComplete = random.nextInt(4) == 0;
+        int kind = random.nextInt(4);
+        if (kind == 0) {
+            return new Deadline(isComplete, nextDescription(), nextDateTime());
+        } else if (kind == 1) {
+            return new Event(isComplete, nextDescription(), nextDateTime());
+        } else {
+            return new ToDo(isComplete, nextDescription());
+        }
+    }
+
+    /**
+     * Returns a TaskList of the given number of generated Tasks.
+     *
+     * @param taskCount The number of Tasks
+     * @return The TaskList
+     */
+    public TaskList nextTaskList(int taskCount) {
+        TaskList taskList = new TaskList();
+        for (int i = 0; i < taskCount; i++) {
+            taskList.add(nextTask());
+        }
+        return taskList;
+    }
+
+    /**
+     * Returns a word of random letters of the given length.
+     *
+     * @param random The source of random numbers
+     * @param length The length of the word
+     * @return The word
+     */
+    public static String word(Random random, int length) {
+        char[] word = new char[length];
+        for (int i = 0; i < length; i++) {
+            word[i] = LETTERS[random.nextInt(LETTERS.length)];
+        }
+        return new String(word);
+    }
+
+    /**
+     * Returns the given word with the given number of its letters replaced by other letters, at random
+     * positions.
+     *
+     * @param random The source of random numbers
+     * @param word The word to misspell
+     * @param edits The number of letters to replace
+     * @return The misspelt word
+     */
+    public static String misspell(Random random, String word, int edits) {
+        char[] letters = word.toCharArray();
+        for (int i = 0; i < edits && letters.length > 0; i++) {
+            int position = random.nextInt(letters.length);
+            letters[position] = LETTERS[(letters[position] - 'a' + 1 + random.nextInt(LETTERS.length - 1))
+                    % LETTERS.length];
+        }
+        return new String(letters);
+    }
+}
@@ -0,0 +1,87 @@
+package duke.workload;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * The share of each kind of command in a generated trace.
+ *
+ * <p>A mix is written as kinds of command and their weights, such as {@code add=20,find=50,list=30}. Kinds which
+ * are left out are never generated, and the weights need not add up to 100.</p>
+ */
+public final class CommandMix {
+    /**
+     * A mix loosely modelled on people using Duke day to day: mostly looking at and searching their list, with a
+     * steady trickle of new tasks, and fewer tasks completed or deleted than added.
+     */
+    public static final String DEFAULT_MIX = "add=20,done=10,delete=5,find=35,relaxfind=10,list=20";
+
+    /**
+     * The kinds of command in a trace.
+     */
+    public enum Kind {
+        ADD,
+        DONE,
+        DELETE,
+        FIND,
+        RELAXFIND,
+        LIST
+    }
+
+    private final Kind[] kinds;
+    private final int[] cumulativeWeights;
+
+    private CommandMix(Map<Kind, Integer> weights) {
+        kinds = weights.keySet().toArray(new Kind[0]);
+        cumulativeWeights = new int[kinds.length];
+        int total = 0;
+        for (int i = 0; i < kinds.length; i++) {
+            total += weights.get(kinds[i]);
+            cumulativeWeights[i] = total;
+        }
+    }
+
+    /**
+     * Returns the mix written in the given text.
+     *
+     * @param text The kinds of command and their weights, such as {@code add=20,find=50,list=30}
+     * @return The mix
+     * @throws IllegalArgumentException if the text is not a valid mix
+     */
+    public static CommandMix parse(String text) {
+        EnumMap<Kind, Integer> weights = new EnumMap<Kind, Integer>(Kind.class);
+        for (String entry : text.split(",")) {
+            String[] parts = entry.trim().split("=");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException(entry + " is not in kind=weight format.");
+            }
+            Kind kind = Kind.valueOf(parts[0].trim().toUpperCase(Locale.ROOT));
+            int weight = Integer.parseInt(parts[1].trim());
+            if (weight < 0) {
+                throw new IllegalArgumentException("The weight of " + parts[0] + " cannot be negative.");
+            }
+            weights.put(kind, weight);
+        }
+        if (weights.values().stream().mapToInt(Integer::intValue).sum() <= 0) {
+            throw new IllegalArgumentException("At least one kind of command needs a positive weight.");
+        }
+        return new CommandMix(weights);
+    }
+
+    /**
+     * Returns a kind of command drawn according to the weights of the mix.
+     *
+     * @param random The source of random numbers
+     * @return The kind of command
+     */
+    public Kind next(Random random) {
+        int draw = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        int i = 0;
+        while (cumulativeWeights[i] <= draw) {
+            i++;
+        }
+        return kinds[i];
+    }
+}
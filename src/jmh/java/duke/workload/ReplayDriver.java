@@ -0,0 +1,172 @@
+package duke.workload;
+
+import duke.error.DukeException;
+import duke.io.Storage;
+import duke.metrics.LatencyHistogram;
+import duke.ui.Duke;
+import duke.ui.Response;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Runs a trace of commands through Duke, one after another, then reports the throughput, the latency of each kind
+ * of command, and the rate at which memory was allocated.
+ *
+ * <p>The trace is run against a copy of the save file, named after it, so the save file can be replayed again
+ * with the same results. The text of each Response is rendered, as a front-end would, and counted as part of the
+ * latency. The first commands of the trace can be run without being measured, to let the JIT compiler warm
+ * up.</p>
+ *
+ * <p>The memory allocated is counted over every live thread, so that the workers running parallel searches and
+ * the writer of the slow command log are included. Threads which end during the replay take their count with
+ * them, so the rate is a lower bound if threads come and go.</p>
+ */
+public class ReplayDriver {
+    private static final String COPY_SUFFIX = "Replay";
+    private static final int DEFAULT_WARMUP_COMMANDS = 1000;
+
+    /**
+     * Replays a trace against a save file and prints the results.
+     *
+     * @param args The name of the save file, the path of the trace file, and the number of commands at the start
+     *             of the trace to run without measuring, which can be left out to use the default
+     * @throws DukeException when the save file cannot be copied
+     * @throws IOException when the trace file cannot be read
+     */
+    public static void main(String[] args) throws DukeException, IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: ReplayDriver SAVE_FILE TRACE_FILE [WARMUP_COMMANDS]");
+            System.exit(2);
+        }
+        String saveFileName = args[0];
+        List<String> trace = Files.readAllLines(Paths.get(args[1]), StandardCharsets.UTF_8);
+        int warmupCommands = Math.min(trace.size(),
+                (args.length > 2) ? Integer.parseInt(args[2]) : DEFAULT_WARMUP_COMMANDS);
+
+        String copyName = saveFileName + COPY_SUFFIX;
+        new Storage(copyName).save(new Storage(saveFileName).loadTaskList());
+        Duke duke = new Duke();
+        duke.greet();
+        Response loaded = duke.getResponse("load " + copyName);
+        if (loaded.wasCausedByError()) {
+            System.err.println(loaded);
+            System.exit(1);
+        }
+
+        for (int i = 0; i < warmupCommands; i++) {
+            duke.getResponse(trace.get(i)).toString();
+        }
+
+        int commandCount = trace.size() - warmupCommands;
+        String[] kinds = new String[commandCount];
+        long[] latencies = new long[commandCount];
+        int errorCount = 0;
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        long allocatedBefore = getAllocatedBytes(threads);
+        long startTime = System.nanoTime();
+        for (int i = 0; i < commandCount; i++) {
+            String input = trace.get(warmupCommands + i);
+            long commandStartTime = System.nanoTime();
+            Response response = duke.getResponse(input);
+            response.toString();
+            latencies[i] = System.nanoTime() - commandStartTime;
+            kinds[i] = getCommandWord(input);
+            errorCount += response.wasCausedByError() ? 1 : 0;
+        }
+        long elapsedTime = System.nanoTime() - startTime;
+        long allocatedAfter = getAllocatedBytes(threads);
+
+        printResults(kinds, latencies, elapsedTime, errorCount);
+        if (allocatedBefore >= 0 && allocatedAfter >= 0) {
+            long allocated = allocatedAfter - allocatedBefore;
+            System.out.printf("allocated %.1f MB by live threads: %.1f MB/s, %.0f bytes/command%n",
+                    allocated / 1e6, allocated / 1e6 / (elapsedTime / 1e9), (double) allocated / commandCount);
+        } else {
+            System.out.println("allocation rate not measured: this JVM does not count allocated bytes");
+        }
+    }
+
+    /**
+     * Helper method to return the number of bytes allocated so far by the threads which are still alive, or -1 if
+     * the JVM does not count them.
+     */
+    private static long getAllocatedBytes(ThreadMXBean threads) {
+        if (!(threads instanceof com.sun.management.ThreadMXBean)) {
+            return -1;
+        }
+        com.sun.management.ThreadMXBean hotSpotThreads = (com.sun.management.ThreadMXBean) threads;
+        if (!hotSpotThreads.isThreadAllocatedMemorySupported() || !hotSpotThreads.isThreadAllocatedMemoryEnabled()) {
+            return -1;
+        }
+        long allocated = 0;
+        for (long threadAllocated : hotSpotThreads.getThreadAllocatedBytes(threads.getAllThreadIds())) {
+            // threads which ended since their ids were read are counted as -1
+            allocated += Math.max(threadAllocated, 0);
+        }
+        return allocated;
+    }
+
+    private static String getCommandWord(String input) {
+        String trimmed = input.trim();
+        int space = trimmed.indexOf(' ');
+        return (space < 0) ? trimmed : trimmed.substring(0, space);
+    }
+
+    /**
+     * Helper method to print the throughput, and the percentiles of the latencies of all commands and of each
+     * kind of command.
+     */
+    private static void printResults(String[] kinds, long[] latencies, long elapsedTime, int errorCount) {
+        if (latencies.length == 0) {
+            System.out.println("No commands were measured.");
+            return;
+        }
+        double seconds = elapsedTime / 1e9;
+        System.out.printf("%d commands in %.2f s: %.0f commands/s, %d error(s)%n",
+                latencies.length, seconds, latencies.length / seconds, errorCount);
+
+        TreeMap<String, long[]> latenciesByKind = new TreeMap<String, long[]>();
+        TreeMap<String, Integer> countsByKind = new TreeMap<String, Integer>();
+        for (String kind : kinds) {
+            countsByKind.merge(kind, 1, Integer::sum);
+        }
+        for (Map.Entry<String, Integer> count : countsByKind.entrySet()) {
+            latenciesByKind.put(count.getKey(), new long[count.getValue()]);
+            count.setValue(0);
+        }
+        for (int i = 0; i < kinds.length; i++) {
+            int index = countsByKind.merge(kinds[i], 1, Integer::sum) - 1;
+            latenciesByKind.get(kinds[i])[index] = latencies[i];
+        }
+
+        System.out.printf("%-10s %8s %10s %10s %10s %10s%n", "command", "count", "p50 ms", "p99 ms", "p99.9 ms",
+                "max ms");
+        printPercentiles("all", latencies.clone());
+        for (Map.Entry<String, long[]> kind : latenciesByKind.entrySet()) {
+            printPercentiles(kind.getKey(), kind.getValue());
+        }
+    }
+
+    private static void printPercentiles(String kind, long[] latencies) {
+        Arrays.sort(latencies);
+        System.out.printf("%-10s %8d %10.3f %10.3f %10.3f %10.3f%n", kind, latencies.length,
+                percentile(latencies, 0.50), percentile(latencies, 0.99), percentile(latencies, 0.999),
+                latencies[latencies.length - 1] / 1e6);
+    }
+
+    /**
+     * Helper method to return the given percentile of the sorted latencies, in milliseconds.
+     */
+    private static double percentile(long[] sortedLatencies, double fraction) {
+        return LatencyHistogram.getPercentile(sortedLatencies, fraction) / 1e6;
+    }
+}
@@ -0,0 +1,264 @@
+package duke.workload;
+
+import duke.benchmark.SyntheticTasks;
+import duke.error.DukeException;
+import duke.io.Storage;
+import duke.tasklist.Deadline;
+import duke.tasklist.Event;
+import duke.tasklist.Task;
+import duke.tasklist.TaskList;
+import duke.tasklist.ToDo;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Random;
+
+/**
+ * A generator of save files and command traces which look like those of people using Duke, for measuring Duke
+ * without sharing anyone's TaskList.
+ *
+ * <p>Descriptions are made of made up words, drawn from a Zipf distribution so that a few words are very
+ * common, and with the common words shorter than the rare ones. Deadlines are mostly due within the next two
+ * weeks, at the times people usually pick, with some overdue and some far ahead. Events are mostly on weekdays, on
+ * the hour. A few of each are given a time which is not a date at all, as people sometimes write.</p>
+ *
+ * <p>A trace is a text file of commands, one on each line, as they would be typed into Duke. The task numbers
+ * in the trace stay within the TaskList as it grows and shrinks, so that a trace replayed against the save file
+ * it was generated with only fails where the commands would fail for a person too.</p>
+ */
+public class WorkloadGenerator {
+    private static final int DEFAULT_TASK_COUNT = 10_000;
+    private static final int DEFAULT_COMMAND_COUNT = 10_000;
+    private static final int DEFAULT_VOCABULARY_SIZE = 5000;
+    private static final double DEFAULT_ZIPF_EXPONENT = 1.0;
+    private static final double DEFAULT_COMPLETED_FRACTION = 0.3;
+    private static final long DEFAULT_SEED = 42;
+
+    // the day the generated TaskLists are as of, so that the same seed always gives the same dates
+    private static final LocalDateTime NOW = LocalDateTime.of(2019, 10, 1, 9, 0);
+    private static final DateTimeFormatter DATE_TIME_FORMAT = DateTimeFormatter.ofPattern("dd/MM/yyyy HHmm");
+    private static final int[][] COMMON_DEADLINE_TIMES = {{23, 59}, {18, 0}, {12, 0}, {9, 0}};
+    private static final String[] INFORMAL_DEADLINE_TIMES = {"tomorrow", "next week", "end of month", "friday"};
+    private static final String[] INFORMAL_EVENT_TIMES = {"after lunch", "this weekend", "tonight", "tbc"};
+    private static final int MAX_WORDS_PER_DESCRIPTION = 6;
+    private static final int PAGE_SIZE = 20;
+
+    private final Random random;
+    private final String[] vocabulary;
+    private final ZipfDistribution wordRanks;
+    private final double completedFraction;
+
+    /**
+     * Constructs a generator of Tasks and commands.
+     *
+     * @param seed The seed of the random numbers used
+     * @param vocabularySize The number of different words used in descriptions
+     * @param zipfExponent The exponent of the Zipf distribution the words are drawn from
+     * @param completedFraction The fraction of the Tasks in a save file which are complete
+     */
+    public WorkloadGenerator(long seed, int vocabularySize, double zipfExponent, double completedFraction) {
+        assert completedFraction >= 0 && completedFraction <= 1;
+        random = new Random(seed);
+        vocabulary = new String[vocabularySize];
+        for (int rank = 0; rank < vocabularySize; rank++) {
+            // common words are short, as in natural languages
+            int length = 2 + (int) Math.log(rank + 2) + random.nextInt(3);
+            vocabulary[rank] = SyntheticTasks.word(random, length);
+        }
+        wordRanks = new ZipfDistribution(vocabularySize, zipfExponent);
+        this.completedFraction = completedFraction;
+    }
+
+    /**
+     * Writes a save file and a trace of commands to run against it.
+     *
+     * @param args The name of the save file, the path of the trace file, then the number of Tasks in the save
+     *             file, the number of commands in the trace, the mix of commands, the exponent of the Zipf
+     *             distribution of words, the fraction of Tasks complete and the seed, each of which can be left
+     *             out, along with those after it, to use the default
+     * @throws DukeException when the save file cannot be written
+     * @throws IOException when the trace file cannot be written
+     */
+    public static void main(String[] args) throws DukeException, IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: WorkloadGenerator SAVE_FILE TRACE_FILE [TASK_COUNT [COMMAND_COUNT [MIX "
+                    + "[ZIPF_EXPONENT [COMPLETED_FRACTION [SEED]]]]]]");
+            System.exit(2);
+        }
+        String saveFileName = args[0];
+        String traceFileName = args[1];
+        int taskCount = (args.length > 2) ? Integer.parseInt(args[2]) : DEFAULT_TASK_COUNT;
+        int commandCount = (args.length > 3) ? Integer.parseInt(args[3]) : DEFAULT_COMMAND_COUNT;
+        CommandMix mix = CommandMix.parse((args.length > 4) ? args[4] : CommandMix.DEFAULT_MIX);
+        double zipfExponent = (args.length > 5) ? Double.parseDouble(args[5]) : DEFAULT_ZIPF_EXPONENT;
+        double completedFraction = (args.length > 6) ? Double.parseDouble(args[6]) : DEFAULT_COMPLETED_FRACTION;
+        long seed = (args.length > 7) ? Long.parseLong(args[7]) : DEFAULT_SEED;
+
+        WorkloadGenerator generator =
+                new WorkloadGenerator(seed, DEFAULT_VOCABULARY_SIZE, zipfExponent, completedFraction);
+        Storage storage = new Storage(saveFileName);
+        storage.save(generator.nextTaskList(taskCount));
+        generator.writeTrace(traceFileName, commandCount, taskCount, mix);
+        System.out.printf("Wrote %d task(s) to %s and %d command(s) to %s%n",
+                taskCount, storage.getFileName(), commandCount, traceFileName);
+    }
+
+    /**
+     * Returns a TaskList of the given number of generated Tasks.
+     *
+     * @param taskCount The number of Tasks
+     * @return The TaskList
+     */
+    public TaskList nextTaskList(int taskCount) {
+        TaskList taskList = new TaskList();
+        for (int i = 0; i < taskCount; i++) {
+            taskList.add(nextTask());
+        }
+        return taskList;
+    }
+
+    /**
+     * Returns a generated Task: a todo half of the time, a deadline less often, and an event least often.
+     *
+     * @return The Task
+     */
+    public Task nextTask() {
+        boolean isComplete = random.nextDouble() < completedFraction;
+        int kind = random.nextInt(10);
+        if (kind < 5) {
+            return new ToDo(isComplete, nextDescription());
+        } else if (kind < 8) {
+            return new Deadline(isComplete, nextDescription(), nextDeadlineTime());
+        } else {
+            return new Event(isComplete, nextDescription(), nextEventTime());
+        }
+    }
+
+    /**
+     * Writes a trace of the given number of commands, run against a TaskList which starts with the given number
+     * of Tasks, to the file at the given path.
+     *
+     * @param fileName The path of the trace file
+     * @param commandCount The number of commands
+     * @param taskCount The number of Tasks in the TaskList the trace starts with
+     * @param mix The share of each kind of command
+     * @throws IOException when the trace file cannot be written
+     */
+    public void writeTrace(String fileName, int commandCount, int taskCount, CommandMix mix) throws IOException {
+        try (BufferedWriter trace = Files.newBufferedWriter(Paths.get(fileName), StandardCharsets.UTF_8)) {
+            for (int i = 0; i < commandCount; i++) {
+                CommandMix.Kind kind = mix.next(random);
+                if (taskCount == 0 && (kind == CommandMix.Kind.DONE || kind == CommandMix.Kind.DELETE)) {
+                    // there is nothing to complete or delete, so the user adds a Task instead
+                    kind = CommandMix.Kind.ADD;
+                }
+                trace.write(nextCommand(kind, taskCount));
+                trace.newLine();
+                if (kind == CommandMix.Kind.ADD) {
+                    taskCount++;
+                } else if (kind == CommandMix.Kind.DELETE) {
+                    taskCount--;
+                }
+            }
+        }
+    }
+
+    /**
+     * Helper method to generate a command of the given kind, for a TaskList of the given size.
+     */
+    private String nextCommand(CommandMix.Kind kind, int taskCount) {
+        switch (kind) {
+        case ADD:
+            int addKind = random.nextInt(10);
+            if (addKind < 5) {
+                return "todo " + nextDescription();
+            } else if (addKind < 8) {
+                return "deadline " + nextDescription() + " /by " + nextDeadlineTime();
+            } else {
+                return "event " + nextDescription() + " /at " + nextEventTime();
+            }
+        case DONE:
+            return "done " + (1 + random.nextInt(taskCount));
+        case DELETE:
+            return "delete " + (1 + random.nextInt(taskCount));
+        case FIND:
+            return "find " + nextWord();
+        case RELAXFIND:
+            return "relaxfind " + SyntheticTasks.misspell(random, nextWord(), 1);
+        case LIST:
+            // most people look at the first page, and only some page through the rest
+            int pageCount = Math.max(1, (taskCount + PAGE_SIZE - 1) / PAGE_SIZE);
+            int page = (random.nextInt(10) < 7) ? 1 : 1 + random.nextInt(pageCount);
+            return "list /page " + page + " /size " + PAGE_SIZE;
+        default:
+            throw new AssertionError(kind);
+        }
+    }
+
+    /**
+     * Helper method to generate a description of one to several words.
+     */
+    private String nextDescription() {
+        int wordCount = 1 + random.nextInt(MAX_WORDS_PER_DESCRIPTION);
+        StringBuilder description = new StringBuilder(nextWord());
+        for (int i = 1; i < wordCount; i++) {
+            description.append(' ').append(nextWord());
+        }
+        return description.toString();
+    }
+
+    private String nextWord() {
+        return vocabulary[wordRanks.next(random)];
+    }
+
+    /**
+     * Helper method to generate the time of a Deadline: mostly within the next two weeks, otherwise overdue or
+     * far ahead, and sometimes not a date at all.
+     */
+    private String nextDeadlineTime() {
+        int draw = random.nextInt(20);
+        if (draw < 2) {
+            return INFORMAL_DEADLINE_TIMES[random.nextInt(INFORMAL_DEADLINE_TIMES.length)];
+        }
+
+        int days;
+        if (draw < 5) {
+            days = -1 - random.nextInt(30);
+        } else if (draw < 8) {
+            days = 15 + random.nextInt(180);
+        } else {
+            days = random.nextInt(15);
+        }
+        LocalDateTime time = NOW.plusDays(days);
+        if (random.nextInt(5) < 4) {
+            int[] commonTime = COMMON_DEADLINE_TIMES[random.nextInt(COMMON_DEADLINE_TIMES.length)];
+            time = time.withHour(commonTime[0]).withMinute(commonTime[1]);
+        } else {
+            time = time.withHour(random.nextInt(24)).withMinute(15 * random.nextInt(4));
+        }
+        return time.format(DATE_TIME_FORMAT);
+    }
+
+    /**
+     * Helper method to generate the time of an Event: on the hour during the working day, mostly on a weekday
+     * in the next two months, and sometimes not a date at all.
+     */
+    private String nextEventTime() {
+        if (random.nextInt(10) == 0) {
+            return INFORMAL_EVENT_TIMES[random.nextInt(INFORMAL_EVENT_TIMES.length)];
+        }
+
+        LocalDateTime time = NOW.plusDays(-7 + random.nextInt(67));
+        boolean isWeekend = time.getDayOfWeek() == DayOfWeek.SATURDAY || time.getDayOfWeek() == DayOfWeek.SUNDAY;
+        if (isWeekend && random.nextInt(5) < 4) {
+            time = time.plusDays(2);
+        }
+        return time.withHour(9 + random.nextInt(10)).withMinute(0).format(DATE_TIME_FORMAT);
+    }
+}
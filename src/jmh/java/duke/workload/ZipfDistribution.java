@@ -0,0 +1,48 @@
+package duke.workload;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * A Zipf distribution over the ranks 0 to n - 1, in which rank k is drawn in proportion to 1 / (k + 1)^s.
+ *
+ * <p>Words in the descriptions people write follow such a distribution: a few words are used very often, and
+ * most words only rarely. The cumulative probabilities are computed once, so each draw is a binary search.</p>
+ */
+public final class ZipfDistribution {
+    private final double[] cumulativeProbabilities;
+
+    /**
+     * Constructs a Zipf distribution over the given number of ranks.
+     *
+     * @param rankCount The number of ranks
+     * @param exponent The exponent s, where 0 draws every rank equally often and larger exponents favour the
+     *                 first ranks more
+     */
+    public ZipfDistribution(int rankCount, double exponent) {
+        assert rankCount > 0;
+        assert exponent >= 0;
+        cumulativeProbabilities = new double[rankCount];
+        double total = 0;
+        for (int rank = 0; rank < rankCount; rank++) {
+            total += 1 / Math.pow(rank + 1, exponent);
+            cumulativeProbabilities[rank] = total;
+        }
+        for (int rank = 0; rank < rankCount; rank++) {
+            cumulativeProbabilities[rank] /= total;
+        }
+    }
+
+    /**
+     * Returns a rank drawn from the distribution.
+     *
+     * @param random The source of random numbers
+     * @return The rank, from 0 to one less than the number of ranks
+     */
+    public int next(Random random) {
+        int index = Arrays.binarySearch(cumulativeProbabilities, random.nextDouble());
+        // a value between two cumulative probabilities is drawn as the rank of the higher one
+        int rank = (index >= 0) ? index : -index - 1;
+        return Math.min(rank, cumulativeProbabilities.length - 1);
+    }
+}
@@ -0,0 +1,75 @@
+package duke.cli;
+
+import duke.ui.Duke;
+import duke.ui.Response;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Launcher for Duke without a GUI, which reads commands from standard input, one on each line, and writes each
+ * Response to standard output as soon as it is ready.
+ *
+ * <p>No JavaFX classes are loaded, so Duke can be run from scripts and on machines without a display. The
+ * TaskList in the default save file is loaded first, unless the name of another save file is given. With
+ * {@code --quiet}, only the Responses to the commands read are written.</p>
+ *
+ * <p>Duke stops after {@code bye}, or at the end of the input. The exit status is 1 if any command resulted in an
+ * error, and 0 otherwise.</p>
+ */
+public class Main {
+    private static final String QUIET_OPTION = "--quiet";
+
+    /**
+     * Runs Duke over standard input and output.
+     *
+     * @param args {@code --quiet} to only write the Responses to the commands read, followed by the name of the
+     *             save file to load, if not the default one
+     * @throws IOException when standard input cannot be read, or standard output cannot be written to
+     */
+    public static void main(String[] args) throws IOException {
+        boolean isQuiet = args.length > 0 && args[0].equals(QUIET_OPTION);
+        int fileNameIndex = isQuiet ? 1 : 0;
+        String saveFileName = (args.length > fileNameIndex) ? args[fileNameIndex] : Duke.DEFAULT_SAVE_FILE_NAME;
+
+        BufferedReader in = new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8));
+        Writer out = new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8));
+        Duke duke = new Duke();
+        boolean hasFailed = false;
+
+        Response greeting = duke.greet();
+        Response loaded = duke.getResponse("load " + saveFileName);
+        if (!isQuiet) {
+            write(greeting, out);
+            write(loaded, out);
+        }
+        hasFailed = loaded.wasCausedByError();
+
+        String input = in.readLine();
+        while (input != null && duke.isActive()) {
+            if (!input.isBlank()) {
+                Response response = duke.getResponse(input);
+                write(response, out);
+                hasFailed |= response.wasCausedByError();
+            }
+            input = duke.isActive() ? in.readLine() : null;
+        }
+        out.flush();
+        System.exit(hasFailed ? 1 : 0);
+    }
+
+    /**
+     * Helper method to render the Response straight into the output, then flush it so that the Response can be
+     * read before the next command is.
+     */
+    private static void write(Response response, Writer out) throws IOException {
+        response.renderTo(out);
+        out.write(System.lineSeparator());
+        out.flush();
+    }
+}
@@ -1,9 +1,13 @@
 package duke.command;
 
+import java.time.LocalDateTime;
+
 /**
  * A Command which is used to instruct Duke to add a Task to the TaskList.
  */
 public class AddTaskCommand extends Command {
+    private static final int DESCRIPTION_SLOT = 0;
+    private static final int TIME_SLOT = 1;
 
     /**
      * Constructs a Command to instruct Duke to add a Task to the TaskList.
@@ -11,8 +15,35 @@ public class AddTaskCommand extends Command {
      * @param type The Type of Command to add a Task (begins with prefix COMMAND_ADD_)
      * @param arguments Description of the task, and Time of the task (if applicable)
      */
-    AddTaskCommand(Type type, String... arguments) {
+    AddTaskCommand(Type type, Arguments arguments) {
         super(type, arguments);
         assert arguments != null;
     }
-}
\ No newline at end of file
+
+    /**
+     * Returns the description of the Task to be added.
+     *
+     * @return The description of the Task
+     */
+    public String getDescription() {
+        return getArguments().getText(DESCRIPTION_SLOT);
+    }
+
+    /**
+     * Returns the time of the Task to be added, as given by the user, if applicable.
+     *
+     * @return The time of the Task, or null if the Task does not have a time
+     */
+    public String getTime() {
+        return getType() == Type.COMMAND_ADD_TODO ? null : getArguments().getText(TIME_SLOT);
+    }
+
+    /**
+     * Returns the time of the Task to be added, if applicable, and if it was given in dd/MM/yyyy HHmm format.
+     *
+     * @return The time of the Task, or null if the Task does not have a time in dd/MM/yyyy HHmm format
+     */
+    public LocalDateTime getDateTime() {
+        return getType() == Type.COMMAND_ADD_TODO ? null : getArguments().getDateTime(TIME_SLOT);
+    }
+}
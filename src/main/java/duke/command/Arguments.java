@@ -0,0 +1,94 @@
+package duke.command;
+
+import java.time.LocalDateTime;
+
+/**
+ * The arguments provided along with a Command, already validated and converted to the types expected by
+ * the Parameters of the Command's Type.
+ *
+ * <p>Each argument is stored in the slot of the Parameter it was provided for, so that it can be retrieved
+ * without parsing the user's input again.</p>
+ */
+public final class Arguments {
+    static final Arguments NONE = new Arguments(new String[0], new Object[0]);
+
+    // the arguments as given by the user
+    private final String[] texts;
+    // the arguments converted to the type of their Parameters
+    private final Object[] values;
+
+    /**
+     * Constructs the arguments of a Command.
+     *
+     * @param texts The arguments as given by the user, or null for arguments which were not provided
+     * @param values The arguments converted to the types of their Parameters
+     */
+    Arguments(String[] texts, Object[] values) {
+        assert texts != null;
+        assert values != null;
+        assert texts.length == values.length;
+        this.texts = texts;
+        this.values = values;
+    }
+
+    /**
+     * Returns the arguments as given by the user, in the order of the slots of their Parameters.
+     *
+     * @return The arguments as given by the user, with null for arguments which were not provided
+     */
+    String[] getTexts() {
+        return texts;
+    }
+
+    /**
+     * Returns true if the argument in the given slot was provided, false otherwise.
+     *
+     * @param slot The slot of the Parameter
+     * @return True if the argument was provided, false otherwise
+     */
+    public boolean isPresent(int slot) {
+        return texts[slot] != null;
+    }
+
+    /**
+     * Returns the argument in the given slot as given by the user.
+     *
+     * @param slot The slot of the Parameter
+     * @return The argument as given by the user, or null if it was not provided
+     */
+    public String getText(int slot) {
+        return texts[slot];
+    }
+
+    /**
+     * Returns the argument in the given slot, for a required Parameter of the INTEGER type.
+     *
+     * @param slot The slot of the Parameter
+     * @return The argument as an int
+     */
+    public int getInteger(int slot) {
+        assert values[slot] != null;
+        return (Integer) values[slot];
+    }
+
+    /**
+     * Returns the argument in the given slot, for an optional Parameter of the INTEGER type.
+     *
+     * @param slot The slot of the Parameter
+     * @param defaultValue The value to return if the argument was not provided
+     * @return The argument as an int, or the default value if it was not provided
+     */
+    public int getInteger(int slot, int defaultValue) {
+        return values[slot] == null ? defaultValue : (Integer) values[slot];
+    }
+
+    /**
+     * Returns the argument in the given slot, for a Parameter of the DATE_TIME type.
+     *
+     * @param slot The slot of the Parameter
+     * @return The argument as a LocalDateTime, or null if it was not provided in dd/MM/yyyy HHmm format
+     */
+    public LocalDateTime getDateTime(int slot) {
+        return (LocalDateTime) values[slot];
+    }
+}
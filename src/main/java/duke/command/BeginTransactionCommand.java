@@ -0,0 +1,15 @@
+package duke.command;
+
+/**
+ * The Command which is used to instruct Duke to begin a transaction, so that changes to the TaskList are only
+ * saved when the transaction is committed.
+ */
+public class BeginTransactionCommand extends Command {
+
+    /**
+     * Constructs the Command which is used to instruct Duke to begin a transaction.
+     */
+    BeginTransactionCommand() {
+        super(Type.COMMAND_BEGIN_TRANSACTION);
+    }
+}
@@ -10,15 +10,24 @@ public abstract class Command {
     // the type of instruction to be executed
     private Type type;
     // the arguments to be used when executing
-    private String[] arguments;
+    private Arguments arguments;
+
+    /**
+     * Constructs the Command, without any arguments.
+     *
+     * @param type The enumerated Type of Command
+     */
+    Command(Type type) {
+        this(type, Arguments.NONE);
+    }
 
     /**
      * Constructs the Command.
      *
      * @param type The enumerated Type of Command
-     * @param arguments The arguments for the Command, if any
+     * @param arguments The arguments for the Command, already converted to the types of its Parameters
      */
-    Command(Type type, String... arguments) {
+    Command(Type type, Arguments arguments) {
         assert type != null;
         assert arguments != null;
         this.type = type;
@@ -26,11 +35,20 @@ public abstract class Command {
     }
 
     /**
-     * Returns the arguments provided along with the Command.
+     * Returns the arguments provided along with the Command, as given by the user.
      *
      * @return The arguments provided along with the Command, in a String[].
      */
     public String[] getArgumentsUsed() {
+        return arguments.getTexts();
+    }
+
+    /**
+     * Returns the arguments provided along with the Command, converted to the types of its Parameters.
+     *
+     * @return The arguments provided along with the Command.
+     */
+    public Arguments getArguments() {
         return arguments;
     }
 
@@ -43,8 +61,3 @@ public abstract class Command {
         return type;
     }
 }
-
-
-
-
-
@@ -0,0 +1,15 @@
+package duke.command;
+
+/**
+ * The Command which is used to instruct Duke to commit the transaction in progress, saving all changes made to
+ * the TaskList since the transaction began.
+ */
+public class CommitTransactionCommand extends Command {
+
+    /**
+     * Constructs the Command which is used to instruct Duke to commit the transaction in progress.
+     */
+    CommitTransactionCommand() {
+        super(Type.COMMAND_COMMIT_TRANSACTION);
+    }
+}
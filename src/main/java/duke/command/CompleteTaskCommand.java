@@ -8,10 +8,19 @@ public class CompleteTaskCommand extends Command {
     /**
      * Constructs a Command to instruct Duke to mark a Task in the TaskList as completed.
      *
-     * @param taskNumber The number corresponding to the Task in the TaskList to be marked as completed
+     * @param arguments The arguments, containing the number corresponding to the Task to be marked as completed
      */
-    CompleteTaskCommand(String taskNumber) {
-        super(Type.COMMAND_COMPLETE_TASK, taskNumber);
-        assert taskNumber != null;
+    CompleteTaskCommand(Arguments arguments) {
+        super(Type.COMMAND_COMPLETE_TASK, arguments);
+        assert arguments.isPresent(0);
+    }
+
+    /**
+     * Returns the number corresponding to the Task in the TaskList.
+     *
+     * @return The number corresponding to the Task in the TaskList, starting from 1
+     */
+    public int getTaskNumber() {
+        return getArguments().getInteger(0);
     }
 }
\ No newline at end of file
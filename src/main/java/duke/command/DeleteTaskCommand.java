@@ -8,10 +8,19 @@ public class DeleteTaskCommand extends Command {
     /**
      * Constructs the Command to instruct Duke to remove a task from the TaskList.
      *
-     * @param taskNumber The number corresponding to the Task in the TaskList to be removed
+     * @param arguments The arguments, containing the number corresponding to the Task to be removed
      */
-    DeleteTaskCommand(String taskNumber) {
-        super(Type.COMMAND_DELETE_TASK, taskNumber);
-        assert taskNumber != null;
+    DeleteTaskCommand(Arguments arguments) {
+        super(Type.COMMAND_DELETE_TASK, arguments);
+        assert arguments.isPresent(0);
+    }
+
+    /**
+     * Returns the number corresponding to the Task in the TaskList.
+     *
+     * @return The number corresponding to the Task in the TaskList, starting from 1
+     */
+    public int getTaskNumber() {
+        return getArguments().getInteger(0);
     }
 }
\ No newline at end of file
@@ -9,15 +9,12 @@ import duke.error.DukeException;
 public class DukeIncorrectParameterTypeException extends DukeException {
 
     /**
-     * Constructs the DukeException to be thrown when the argument(s) given cannot be parsed as the type required.
+     * Constructs the DukeException to be thrown when the argument(s) given cannot be parsed as the type required,
+     * with a message already explaining which argument cannot be parsed.
      *
-     * @param typeExpected The expected type of the argument
-     * @param argument The argument which cannot be properly parsed
+     * @param message The message explaining which argument cannot be parsed
      */
-    public DukeIncorrectParameterTypeException(String typeExpected, String argument) {
-        super("The following cannot be converted to ", typeExpected, ":\n", argument);
-        assert typeExpected != null;
-        assert (typeExpected.length() > 0);
-        assert argument != null;
+    DukeIncorrectParameterTypeException(String message) {
+        super(message);
     }
 }
@@ -6,11 +6,12 @@ import duke.error.DukeException;
  * A DukeException to be thrown when no command is given.
  */
 class DukeMissingCommandException extends DukeException {
+    static final String MESSAGE = "No command?! I didn't w-want to do anything anyway!";
 
     /**
      * Constructs the DukeException to be thrown when no command is given.
      */
     DukeMissingCommandException() {
-        super("No command?! I didn't w-want to do anything anyway!");
+        super(MESSAGE);
     }
 }
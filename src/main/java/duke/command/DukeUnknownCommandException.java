@@ -2,15 +2,31 @@ package duke.command;
 
 import duke.error.DukeException;
 
+import java.util.List;
+
 /**
  * A DukeException to be thrown when the user's input cannot be parsed as a valid Command for Duke.
  */
 public class DukeUnknownCommandException extends DukeException {
+    static final String MESSAGE = "I'm sorry. I don't know what that means :c";
 
     /**
      * Constructs the DukeException to be thrown when the user's input cannot be parsed as a valid Command for Duke.
      */
     public DukeUnknownCommandException() {
-        super("I'm sorry. I don't know what that means :c");
+        super(MESSAGE);
+    }
+
+    /**
+     * Returns the part of the error message which suggests the command words the user may have meant.
+     *
+     * @param commandWords The command words the user may have meant, closest first
+     * @return The suggestion to append to the error message, or an empty string if there are no command words
+     */
+    static String suggestions(List<String> commandWords) {
+        if (commandWords.isEmpty()) {
+            return "";
+        }
+        return "\nDid you mean: " + String.join(", ", commandWords) + "?";
     }
 }
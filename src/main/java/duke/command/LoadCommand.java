@@ -9,10 +9,19 @@ public class LoadCommand extends Command {
      * Constructs the Command which is used to instruct Duke to load a TaskList the TaskList save file
      * with the specified name.
      *
-     * @param fileName The file name of the TaskList save file to load a TaskList from.
+     * @param arguments The arguments, containing the file name of the TaskList save file to load a TaskList from.
      */
-    LoadCommand(String fileName) {
-        super(Type.COMMAND_LOAD_FILE, fileName);
-        assert fileName != null;
+    LoadCommand(Arguments arguments) {
+        super(Type.COMMAND_LOAD_FILE, arguments);
+        assert arguments.isPresent(0);
+    }
+
+    /**
+     * Returns the file name of the TaskList save file.
+     *
+     * @return The file name of the TaskList save file
+     */
+    public String getFileName() {
+        return getArguments().getText(0);
     }
 }
\ No newline at end of file
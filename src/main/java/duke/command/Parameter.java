@@ -0,0 +1,112 @@
+package duke.command;
+
+/**
+ * A description of a single parameter of a Command, which is used to parse the arguments of the Command.
+ *
+ * <p>A Parameter has a name, the type its argument is converted to, and the delimiter which marks the start
+ * of its argument, if any. The argument for the Parameter without a delimiter, if any, is given right after
+ * the command word. A Parameter may be optional.</p>
+ *
+ * <p>Parameters are immutable, so they can be shared by every Command of the same Type.</p>
+ */
+public final class Parameter {
+    private final String name;
+    private final ParameterType type;
+    private final String delimiter;
+    private final boolean isOptional;
+
+    private Parameter(String name, ParameterType type, String delimiter, boolean isOptional) {
+        assert name != null;
+        assert type != null;
+        this.name = name;
+        this.type = type;
+        this.delimiter = delimiter;
+        this.isOptional = isOptional;
+    }
+
+    /**
+     * Returns a required Parameter, with no delimiter, which argument is used as given.
+     *
+     * @param name The name of the Parameter
+     * @return The Parameter
+     */
+    static Parameter text(String name) {
+        return new Parameter(name, ParameterType.TEXT, null, false);
+    }
+
+    /**
+     * Returns a required Parameter, with no delimiter, which argument must be an integer.
+     *
+     * @param name The name of the Parameter
+     * @return The Parameter
+     */
+    static Parameter integer(String name) {
+        return new Parameter(name, ParameterType.INTEGER, null, false);
+    }
+
+    /**
+     * Returns a required Parameter, with no delimiter, which argument is converted to a date and time if possible.
+     *
+     * @param name The name of the Parameter
+     * @return The Parameter
+     */
+    static Parameter dateTime(String name) {
+        return new Parameter(name, ParameterType.DATE_TIME, null, false);
+    }
+
+    /**
+     * Returns a copy of this Parameter, which argument is given after the specified delimiter.
+     *
+     * @param delimiter The delimiter which marks the start of the argument for the Parameter
+     * @return The Parameter with the delimiter
+     */
+    Parameter after(String delimiter) {
+        assert delimiter != null;
+        return new Parameter(name, type, delimiter, isOptional);
+    }
+
+    /**
+     * Returns a copy of this Parameter, which argument does not need to be provided.
+     *
+     * @return The optional Parameter
+     */
+    Parameter optional() {
+        return new Parameter(name, type, delimiter, true);
+    }
+
+    /**
+     * Returns the name of the Parameter.
+     *
+     * @return The name of the Parameter
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the type which the argument for the Parameter is converted to.
+     *
+     * @return The type which the argument for the Parameter is converted to
+     */
+    public ParameterType getType() {
+        return type;
+    }
+
+    /**
+     * Returns the delimiter which marks the start of the argument for the Parameter, or null if there is none.
+     *
+     * @return The delimiter of the Parameter, or null if there is none
+     */
+    public String getDelimiter() {
+        return delimiter;
+    }
+
+    /**
+     * Returns true if the argument for the Parameter does not need to be provided, false otherwise.
+     *
+     * @return True if the Parameter is optional, false otherwise
+     */
+    public boolean isOptional() {
+        return isOptional;
+    }
+}
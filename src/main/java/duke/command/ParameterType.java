@@ -0,0 +1,14 @@
+package duke.command;
+
+/**
+ * The enumeration of the types which the argument for a Parameter of a Command is converted to when the
+ * Command is parsed.
+ */
+public enum ParameterType {
+    // the argument is used as given
+    TEXT,
+    // the argument must be an integer
+    INTEGER,
+    // the argument is converted to a date and time if it is in dd/MM/yyyy HHmm format, or used as given otherwise
+    DATE_TIME
+}
@@ -1,17 +1,63 @@
 package duke.command;
 
 import duke.error.DukeException;
+import duke.error.ErrorCode;
+import duke.error.Outcome;
+import duke.metrics.ParseEvent;
+import duke.util.Match;
+import duke.util.PrefixTrie;
 
-import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeParseException;
 import java.time.LocalDateTime;
+import java.time.YearMonth;
 
-import java.util.Iterator;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
 
 /**
  * Static methods for parsing user input into usable information by Duke.
  */
 public class Parser {
+    // the length of a date and time in dd/MM/yyyy HHmm format
+    private static final int DATE_TIME_INPUT_LENGTH = 15;
+    // returned when an argument cannot be converted to the type of its Parameter
+    private static final Object INVALID_ARGUMENT = new Object();
+    // the furthest a mistyped command word can be from a command word for it to be suggested
+    private static final int MAX_SUGGESTION_DISTANCE = 2;
+    // the most command words suggested for a mistyped command word
+    private static final int MAX_SUGGESTIONS = 3;
+
+    // maps each command word to the Type of Command it gives
+    private static final HashMap<String, Type> COMMAND_WORDS = new HashMap<String, Type>();
+    private static final EnumMap<Type, String> COMMAND_WORDS_BY_TYPE = new EnumMap<Type, String>(Type.class);
+    private static final PrefixTrie COMMAND_WORD_INDEX = new PrefixTrie();
+
+    static {
+        addCommandWord("list", Type.COMMAND_SHOW_LIST);
+        addCommandWord("bye", Type.COMMAND_EXIT);
+        addCommandWord("todo", Type.COMMAND_ADD_TODO);
+        addCommandWord("event", Type.COMMAND_ADD_EVENT);
+        addCommandWord("deadline", Type.COMMAND_ADD_DEADLINE);
+        addCommandWord("delete", Type.COMMAND_DELETE_TASK);
+        addCommandWord("done", Type.COMMAND_COMPLETE_TASK);
+        addCommandWord("find", Type.COMMAND_SEARCH);
+        addCommandWord("relaxfind", Type.COMMAND_RELAX_SEARCH);
+        addCommandWord("load", Type.COMMAND_LOAD_FILE);
+        addCommandWord("save", Type.COMMAND_SAVE_FILE);
+        addCommandWord("begin", Type.COMMAND_BEGIN_TRANSACTION);
+        addCommandWord("commit", Type.COMMAND_COMMIT_TRANSACTION);
+        addCommandWord("rollback", Type.COMMAND_ROLLBACK_TRANSACTION);
+        addCommandWord("undo", Type.COMMAND_UNDO);
+        addCommandWord("redo", Type.COMMAND_REDO);
+        addCommandWord("stats", Type.COMMAND_SHOW_STATS);
+    }
+
+    private static void addCommandWord(String commandWord, Type type) {
+        COMMAND_WORDS.put(commandWord, type);
+        COMMAND_WORDS_BY_TYPE.put(type, commandWord);
+        COMMAND_WORD_INDEX.add(commandWord);
+    }
 
     /**
      * Parses the argument provided by the user for the Date/Time parameter of the Deadline and Event Tasks, if
@@ -26,33 +72,125 @@ public class Parser {
      */
     public static String parseDateTime(String dateTimeString) throws DukeException {
         assert dateTimeString != null;
-        try {
-            DateTimeFormatter formatter = DateTimeFormatter.ofPattern("dd/MM/yyyy HHmm");
-            LocalDateTime dateAndTime = LocalDateTime.parse(dateTimeString, formatter);
-
-            StringBuilder dateTime = new StringBuilder();
-
-            dateTime.append(getIntegerOrdinal(dateAndTime.getDayOfMonth()));
-            dateTime.append(" of ");
-            dateTime.append(dateAndTime.getMonth().toString());
-            dateTime.append(" ");
-            dateTime.append(dateAndTime.getYear());
-            dateTime.append(", ");
-
-            int hour = dateAndTime.getHour();
-            int minute = dateAndTime.getMinute();
-
-            dateTime.append((hour > 12 ? hour - 12 : hour == 0 ? 12 : hour));
-            if (minute != 0) {
-                dateTime.append(":");
-                dateTime.append(minute);
+        LocalDateTime dateAndTime = parseLocalDateTime(dateTimeString);
+        if (dateAndTime == null) {
+            throw new DukeException(dateTimeString + " is not in dd/MM/yyyy HHmm format.");
+        }
+        return formatDateTime(dateAndTime);
+    }
+
+    /**
+     * Parses the given string as a date and time in dd/MM/yyyy HHmm format, if possible.
+     *
+     * <p>As when parsing with a DateTimeFormatter, a day past the end of the month is moved to the last day of
+     * the month, e.g. 31/02/2019 becomes 28/02/2019. The string is checked by hand, so that inputs which are not
+     * dates, which are common, are rejected without throwing a DateTimeParseException.</p>
+     *
+     * @param dateTimeString The input string to be parsed
+     * @return The date and time, or null if the input is not in dd/MM/yyyy HHmm format
+     */
+    public static LocalDateTime parseLocalDateTime(String dateTimeString) {
+        assert dateTimeString != null;
+        if (dateTimeString.length() != DATE_TIME_INPUT_LENGTH
+                || dateTimeString.charAt(2) != '/'
+                || dateTimeString.charAt(5) != '/'
+                || dateTimeString.charAt(10) != ' ') {
+            return null;
+        }
+
+        int day = parseDigits(dateTimeString, 0, 2);
+        int month = parseDigits(dateTimeString, 3, 5);
+        int year = parseDigits(dateTimeString, 6, 10);
+        int hour = parseDigits(dateTimeString, 11, 13);
+        int minute = parseDigits(dateTimeString, 13, 15);
+
+        if (day < 1 || day > 31 || month < 1 || month > 12 || year < 1
+                || hour < 0 || hour > 23 || minute < 0 || minute > 59) {
+            return null;
+        }
+
+        int lastDayOfMonth = YearMonth.of(year, month).lengthOfMonth();
+        return LocalDateTime.of(year, month, Math.min(day, lastDayOfMonth), hour, minute);
+    }
+
+    /**
+     * Helper method to parse the ASCII digits in the given range of a string as a non-negative integer.
+     *
+     * @return The integer, or -1 if a character in the range is not a digit
+     */
+    private static int parseDigits(String string, int start, int end) {
+        int value = 0;
+        for (int i = start; i < end; i++) {
+            char digit = string.charAt(i);
+            if (digit < '0' || digit > '9') {
+                return -1;
             }
-            dateTime.append(hour < 12 ? "am" : "pm");
+            value = value * 10 + (digit - '0');
+        }
+        return value;
+    }
 
-            return dateTime.toString();
-        } catch (DateTimeParseException exception) {
-            throw new DukeException(dateTimeString + " is not in dd/MM/yyyy HHmm format.");
+    /**
+     * Parses the given string as an int in the same way as Integer.parseInt, if possible, without throwing a
+     * NumberFormatException when it is not an int.
+     *
+     * @param integerString The input string to be parsed
+     * @return The int, or null if the input is not an int
+     */
+    public static Integer parseInteger(String integerString) {
+        assert integerString != null;
+        int length = integerString.length();
+        boolean isNegative = length > 0 && integerString.charAt(0) == '-';
+        int start = (length > 0 && (isNegative || integerString.charAt(0) == '+')) ? 1 : 0;
+        if (start == length) {
+            return null;
+        }
+
+        long limit = isNegative ? -(long) Integer.MIN_VALUE : Integer.MAX_VALUE;
+        long value = 0;
+        for (int i = start; i < length; i++) {
+            char digit = integerString.charAt(i);
+            if (digit < '0' || digit > '9') {
+                return null;
+            }
+            value = value * 10 + (digit - '0');
+            if (value > limit) {
+                return null;
+            }
         }
+        return (int) (isNegative ? -value : value);
+    }
+
+    /**
+     * Formats the given date and time into a more explicit format.
+     *
+     * <p>For example, 12/12/1212 12:12 will be formatted to "12th of DECEMBER 1212, 12:12pm".</p>
+     *
+     * @param dateAndTime The date and time to be formatted
+     * @return The formatted date and time
+     */
+    public static String formatDateTime(LocalDateTime dateAndTime) {
+        assert dateAndTime != null;
+        StringBuilder dateTime = new StringBuilder();
+
+        dateTime.append(getIntegerOrdinal(dateAndTime.getDayOfMonth()));
+        dateTime.append(" of ");
+        dateTime.append(dateAndTime.getMonth().toString());
+        dateTime.append(" ");
+        dateTime.append(dateAndTime.getYear());
+        dateTime.append(", ");
+
+        int hour = dateAndTime.getHour();
+        int minute = dateAndTime.getMinute();
+
+        dateTime.append((hour > 12 ? hour - 12 : hour == 0 ? 12 : hour));
+        if (minute != 0) {
+            dateTime.append(":");
+            dateTime.append(minute);
+        }
+        dateTime.append(hour < 12 ? "am" : "pm");
+
+        return dateTime.toString();
     }
 
     /**
@@ -86,110 +224,286 @@ public class Parser {
      * @throws DukeException when an error occurs attempting to parse the input as a valid Command
      */
     public static Command parseAsCommand(String input) throws DukeException {
+        Outcome<Command> command = tryParseAsCommand(input);
+        if (command.isFailure()) {
+            throw toException(command);
+        }
+        return command.getValue();
+    }
+
+    /**
+     * Tries to parse user input as a Command, with arguments, if any, without throwing a DukeException if the
+     * input is not a valid Command.
+     *
+     * @param input The input string to be parsed as a Command
+     * @return An Outcome with the Command, wrapping the user's instructions to Duke, or with the error which
+     *         occurred attempting to parse the input as a valid Command
+     */
+    public static Outcome<Command> tryParseAsCommand(String input) {
+        assert input != null;
+        ParseEvent event = new ParseEvent();
+        event.begin();
+        Outcome<Command> command = parse(input);
+        if (event.shouldCommit()) {
+            event.command = command.isSuccess() ? getCommandWord(command.getValue().getType()) : null;
+            event.inputLength = input.length();
+            event.failed = command.isFailure();
+            event.commit();
+        }
+        return command;
+    }
+
+    /**
+     * Helper method to parse user input as a Command, or find the error which prevents it from being parsed.
+     */
+    private static Outcome<Command> parse(String input) {
         String[] split = input.trim().split("\\s+");
 
         if (split[0].length() == 0) {
-            throw new DukeMissingCommandException();
+            return Outcome.failure(ErrorCode.MISSING_COMMAND, DukeMissingCommandException.MESSAGE);
         }
 
-        Type commandType = extractCommandType(input);
+        Type commandType = extractCommandType(split[0]);
 
-        if (commandType == Type.COMMAND_EXIT) {
-            return new ExitCommand();
-        } else if (commandType == Type.COMMAND_SHOW_LIST) {
-            return new ShowListCommand();
+        if (commandType == null) {
+            return Outcome.failure(
+                    ErrorCode.UNKNOWN_COMMAND,
+                    DukeUnknownCommandException.MESSAGE,
+                    DukeUnknownCommandException.suggestions(suggestCommandWords(split[0], MAX_SUGGESTIONS)));
+        } else if (commandType == Type.COMMAND_EXIT) {
+            return Outcome.success(new ExitCommand());
+        } else if (commandType == Type.COMMAND_BEGIN_TRANSACTION) {
+            return Outcome.success(new BeginTransactionCommand());
+        } else if (commandType == Type.COMMAND_COMMIT_TRANSACTION) {
+            return Outcome.success(new CommitTransactionCommand());
+        } else if (commandType == Type.COMMAND_ROLLBACK_TRANSACTION) {
+            return Outcome.success(new RollbackTransactionCommand());
+        } else if (commandType == Type.COMMAND_UNDO) {
+            return Outcome.success(new UndoCommand());
+        } else if (commandType == Type.COMMAND_REDO) {
+            return Outcome.success(new RedoCommand());
+        } else if (commandType == Type.COMMAND_SHOW_STATS) {
+            return Outcome.success(new ShowStatsCommand());
         }
 
-        String[] arguments = extractArguments(input, commandType);
+        Outcome<Arguments> extracted = extractArguments(split, commandType);
+        if (extracted.isFailure()) {
+            return Outcome.failure(extracted);
+        }
+        Arguments arguments = extracted.getValue();
 
         switch (commandType) {
+        case COMMAND_SHOW_LIST:
+            return Outcome.success(new ShowListCommand(arguments));
         case COMMAND_DELETE_TASK:
-            return new DeleteTaskCommand(arguments[0]);
+            return Outcome.success(new DeleteTaskCommand(arguments));
         case COMMAND_COMPLETE_TASK:
-            return new CompleteTaskCommand(arguments[0]);
+            return Outcome.success(new CompleteTaskCommand(arguments));
         case COMMAND_SEARCH:
-            return new SearchCommand(arguments[0]);
+            return Outcome.success(new SearchCommand(arguments));
         case COMMAND_RELAX_SEARCH:
-            return new RelaxedSearchCommand(arguments[0]);
+            return Outcome.success(new RelaxedSearchCommand(arguments));
         case COMMAND_LOAD_FILE:
-            return new LoadCommand(arguments[0]);
+            return Outcome.success(new LoadCommand(arguments));
         case COMMAND_SAVE_FILE:
-            return new SaveCommand(arguments[0]);
+            return Outcome.success(new SaveCommand(arguments));
         case COMMAND_ADD_TODO:
             //Fallthrough
         case COMMAND_ADD_DEADLINE:
             //Fallthrough
         case COMMAND_ADD_EVENT:
-            return new AddTaskCommand(commandType, arguments);
+            return Outcome.success(new AddTaskCommand(commandType, arguments));
         default:
             return null; //unreachable
         }
     }
 
-    private static String[] extractArguments(String input, Type commandType) throws DukeMissingArgumentException {
-        String[] split = input.trim().split("\\s+");
-        String[] argumentsProvided = new String[commandType.getNumberOfArgumentsExpected()];
-
-        Iterator<String> delimiterIterator = commandType.getDelimiters().iterator();
-
-        int parameterCount = 0;
+    /**
+     * Helper method to convert the error from a failed attempt to parse user input into the DukeException
+     * which would be thrown for it.
+     */
+    private static DukeException toException(Outcome<?> failure) {
+        assert failure.isFailure();
+        switch (failure.getErrorCode()) {
+        case MISSING_COMMAND:
+            return new DukeMissingCommandException();
+        case UNKNOWN_COMMAND:
+            return new DukeUnknownCommandException();
+        case MISSING_ARGUMENT:
+            return new DukeMissingArgumentException(failure.getErrorMessage());
+        case INCORRECT_PARAMETER_TYPE:
+            return new DukeIncorrectParameterTypeException(failure.getErrorMessage());
+        default:
+            return new DukeException(failure.getErrorMessage());
+        }
+    }
 
-        String nextDelimiter = (delimiterIterator.hasNext()) ? delimiterIterator.next() : " ";
+    /**
+     * Helper method to split the words following the command word into the arguments for each Parameter of the
+     * Command's Type, and convert each argument to the type of its Parameter, in a single pass over the words.
+     */
+    private static Outcome<Arguments> extractArguments(String[] split, Type commandType) {
+        int parameterCount = commandType.getNumberOfArgumentsExpected();
+        String[] argumentsProvided = new String[parameterCount];
+        boolean[] isSlotStarted = new boolean[parameterCount];
 
+        // words given before the first delimiter are ignored if there is no Parameter for them
+        int currentSlot = commandType.hasLeadingParameter() ? 0 : Type.NO_SLOT;
+        if (currentSlot != Type.NO_SLOT) {
+            isSlotStarted[currentSlot] = true;
+        }
         StringBuilder currentParameter = new StringBuilder();
 
         for (int wordIndex = 1; wordIndex <= split.length; wordIndex++) {
-            if (wordIndex == split.length || split[wordIndex].equals(nextDelimiter)) {
-                String parameter = currentParameter.toString().trim();
-
-                argumentsProvided[parameterCount] = (parameter.length() > 0) ? parameter : null;
+            int nextSlot = (wordIndex == split.length)
+                    ? Type.NO_SLOT
+                    : commandType.getSlotOfDelimiter(split[wordIndex]);
+            boolean isDelimiter = nextSlot != Type.NO_SLOT && !isSlotStarted[nextSlot];
 
-                if (wordIndex < split.length && split[wordIndex].equals(nextDelimiter)) {
-                    nextDelimiter = (delimiterIterator.hasNext()) ? delimiterIterator.next() : " ";
+            if (wordIndex < split.length && !isDelimiter) {
+                if (currentSlot != Type.NO_SLOT) {
+                    if (currentParameter.length() > 0) {
+                        currentParameter.append(" ");
+                    }
+                    currentParameter.append(split[wordIndex]);
                 }
+                continue;
+            }
+
+            // the argument for the current Parameter ends here
+            if (currentSlot != Type.NO_SLOT && currentParameter.length() > 0) {
+                argumentsProvided[currentSlot] = currentParameter.toString();
+            }
 
-                currentParameter = new StringBuilder();
-                parameterCount++;
-            } else {
-                currentParameter.append(split[wordIndex]);
-                currentParameter.append(" ");
+            currentSlot = nextSlot;
+            if (currentSlot != Type.NO_SLOT) {
+                isSlotStarted[currentSlot] = true;
             }
+            currentParameter.setLength(0);
         }
 
-        for (String parameter : argumentsProvided) {
-            if (parameter == null) {
-                throw new DukeMissingArgumentException(commandType, argumentsProvided);
+        for (int slot = 0; slot < parameterCount; slot++) {
+            if (argumentsProvided[slot] == null && !commandType.getParameter(slot).isOptional()) {
+                return missingArguments(commandType, argumentsProvided);
             }
         }
-        return argumentsProvided;
-    }
-
-    private static Type extractCommandType(String input) throws DukeUnknownCommandException {
-        switch (input.trim().split("\\s+")[0]) {
-        case "list":
-            return Type.COMMAND_SHOW_LIST;
-        case "bye":
-            return Type.COMMAND_EXIT;
-        case "todo":
-            return Type.COMMAND_ADD_TODO;
-        case "event":
-            return Type.COMMAND_ADD_EVENT;
-        case "deadline":
-            return Type.COMMAND_ADD_DEADLINE;
-        case "delete":
-            return Type.COMMAND_DELETE_TASK;
-        case "done":
-            return Type.COMMAND_COMPLETE_TASK;
-        case "find":
-            return Type.COMMAND_SEARCH;
-        case "relaxfind":
-            return Type.COMMAND_RELAX_SEARCH;
-        case "load":
-            return Type.COMMAND_LOAD_FILE;
-        case "save":
-            return Type.COMMAND_SAVE_FILE;
+
+        Object[] values = new Object[parameterCount];
+        for (int slot = 0; slot < parameterCount; slot++) {
+            Parameter parameter = commandType.getParameter(slot);
+            if (argumentsProvided[slot] == null) {
+                continue;
+            }
+            values[slot] = convertArgument(parameter, argumentsProvided[slot]);
+            if (values[slot] == INVALID_ARGUMENT) {
+                return incorrectParameterType(parameter, argumentsProvided[slot]);
+            }
+        }
+        return Outcome.success(new Arguments(argumentsProvided, values));
+    }
+
+    /**
+     * Helper method to convert an argument to the type of its Parameter.
+     *
+     * @return The converted argument, or INVALID_ARGUMENT if it cannot be converted
+     */
+    private static Object convertArgument(Parameter parameter, String argument) {
+        assert argument != null;
+        switch (parameter.getType()) {
+        case INTEGER:
+            Integer integer = parseInteger(argument);
+            return integer == null ? INVALID_ARGUMENT : integer;
+        case DATE_TIME:
+            return parseLocalDateTime(argument);
+        case TEXT:
+            //Fallthrough
         default:
-            throw new DukeUnknownCommandException();
+            return argument;
+        }
+    }
+
+    /**
+     * Helper method to return the failed Outcome listing the Parameters of the Command's Type which are required
+     * but were not given an argument.
+     */
+    private static Outcome<Arguments> missingArguments(Type commandType, String[] argumentsProvided) {
+        StringBuilder message = new StringBuilder("The following field(s) cannot be empty:");
+        for (int slot = 0; slot < commandType.getNumberOfArgumentsExpected(); slot++) {
+            Parameter parameter = commandType.getParameter(slot);
+            if (argumentsProvided[slot] == null && !parameter.isOptional()) {
+                message.append("\n>>>").append(parameter.getName());
+            }
         }
+        return Outcome.failure(ErrorCode.MISSING_ARGUMENT, message.toString());
+    }
+
+    /**
+     * Helper method to return the failed Outcome for an argument which cannot be converted to the type of its
+     * Parameter.
+     */
+    private static Outcome<Arguments> incorrectParameterType(Parameter parameter, String argument) {
+        assert parameter.getType() == ParameterType.INTEGER;
+        return Outcome.failure(
+                ErrorCode.INCORRECT_PARAMETER_TYPE, "The following cannot be converted to Integer:\n" + argument);
+    }
+
+    /**
+     * Returns up to the given number of command words which start with the given prefix, in alphabetical order.
+     *
+     * @param prefix The prefix the command words should start with
+     * @param limit The maximum number of command words to return
+     * @return A List of the command words
+     */
+    public static List<String> completeCommandWord(String prefix, int limit) {
+        assert prefix != null;
+        return COMMAND_WORD_INDEX.complete(prefix, limit);
+    }
+
+    /**
+     * Returns up to the given number of command words which the given word may be a mistyped version of, with
+     * the closest command words first.
+     *
+     * <p>Command words are compared with the word ignoring case, and only those within a small edit distance of
+     * the word are suggested.</p>
+     *
+     * @param word The word which is not a command word
+     * @param limit The maximum number of command words to return
+     * @return A List of the command words closest to the word
+     */
+    public static List<String> suggestCommandWords(String word, int limit) {
+        assert word != null;
+        String lowerCaseWord = word.toLowerCase();
+        ArrayList<String> suggestions = new ArrayList<String>();
+        HashMap<String, Integer> distances = new HashMap<String, Integer>();
+        for (String commandWord : COMMAND_WORDS.keySet()) {
+            int distance = Match.boundedLevenshteinDistance(lowerCaseWord, commandWord, MAX_SUGGESTION_DISTANCE);
+            if (distance <= MAX_SUGGESTION_DISTANCE) {
+                suggestions.add(commandWord);
+                distances.put(commandWord, distance);
+            }
+        }
+        suggestions.sort((first, second) -> distances.get(first).equals(distances.get(second))
+                ? first.compareTo(second)
+                : Integer.compare(distances.get(first), distances.get(second)));
+        return suggestions.size() > limit ? new ArrayList<String>(suggestions.subList(0, limit)) : suggestions;
+    }
+
+    /**
+     * Returns the command word which gives a Command of the given Type.
+     *
+     * @param type The Type of Command
+     * @return The command word
+     */
+    public static String getCommandWord(Type type) {
+        return COMMAND_WORDS_BY_TYPE.get(type);
+    }
+
+    /**
+     * Helper method to find the Type of Command corresponding to the given command word.
+     *
+     * @return The Type of Command, or null if the command word is not a command Duke knows
+     */
+    private static Type extractCommandType(String commandWord) {
+        return COMMAND_WORDS.get(commandWord);
     }
 }
@@ -0,0 +1,14 @@
+package duke.command;
+
+/**
+ * The Command which is used to instruct Duke to redo the last change to the TaskList which was undone.
+ */
+public class RedoCommand extends Command {
+
+    /**
+     * Constructs the Command which is used to instruct Duke to redo the last change which was undone.
+     */
+    RedoCommand() {
+        super(Type.COMMAND_REDO);
+    }
+}
@@ -0,0 +1,15 @@
+package duke.command;
+
+/**
+ * The Command which is used to instruct Duke to roll back the transaction in progress, discarding all changes
+ * made to the TaskList since the transaction began.
+ */
+public class RollbackTransactionCommand extends Command {
+
+    /**
+     * Constructs the Command which is used to instruct Duke to roll back the transaction in progress.
+     */
+    RollbackTransactionCommand() {
+        super(Type.COMMAND_ROLLBACK_TRANSACTION);
+    }
+}
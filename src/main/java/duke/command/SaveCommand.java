@@ -9,10 +9,19 @@ public class SaveCommand extends Command {
      * Constructs the Command which is used to instruct Duke to save the TaskList to the TaskList
      * save file with the specified name.
      *
-     * @param fileName The file name of the TaskList save file to save the TaskList to.
+     * @param arguments The arguments, containing the file name of the TaskList save file to save the TaskList to.
      */
-    SaveCommand(String fileName) {
-        super(Type.COMMAND_SAVE_FILE, fileName);
-        assert fileName != null;
+    SaveCommand(Arguments arguments) {
+        super(Type.COMMAND_SAVE_FILE, arguments);
+        assert arguments.isPresent(0);
+    }
+
+    /**
+     * Returns the file name of the TaskList save file.
+     *
+     * @return The file name of the TaskList save file
+     */
+    public String getFileName() {
+        return getArguments().getText(0);
     }
 }
\ No newline at end of file
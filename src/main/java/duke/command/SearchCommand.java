@@ -9,10 +9,19 @@ public class SearchCommand extends Command {
      * Constructs the Command which is used to instruct Duke to search for a Task which
      * contains a given keyword in the TaskList.
      *
-     * @param keyword The keyword the user wants to find a matching Task for in the TaskList
+     * @param arguments The arguments, containing the keyword to find a matching Task for
      */
-    SearchCommand(String keyword) {
-        super(Type.COMMAND_SEARCH, keyword);
-        assert keyword != null;
+    SearchCommand(Arguments arguments) {
+        super(Type.COMMAND_SEARCH, arguments);
+        assert arguments.isPresent(0);
+    }
+
+    /**
+     * Returns the keyword to search for in the TaskList.
+     *
+     * @return The keyword to search for in the TaskList
+     */
+    public String getKeyword() {
+        return getArguments().getText(0);
     }
 }
\ No newline at end of file
@@ -2,13 +2,37 @@ package duke.command;
 
 /**
  * A Command which is used to instruct Duke display the contents of the TaskList.
+ *
+ * <p>The TaskList is displayed one page at a time, with the page and the number of Tasks on each page
+ * optionally given by the user.</p>
  */
 public class ShowListCommand extends Command {
+    public static int DEFAULT_PAGE_SIZE = 50;
 
     /**
      * Constructs the Command which is used to instruct Duke display the contents of the TaskList.
+     *
+     * @param arguments The arguments, optionally containing the page to display and the size of each page
      */
-    ShowListCommand() {
-        super(Type.COMMAND_SHOW_LIST);
+    ShowListCommand(Arguments arguments) {
+        super(Type.COMMAND_SHOW_LIST, arguments);
     }
-}
\ No newline at end of file
+
+    /**
+     * Returns the page of the TaskList to display.
+     *
+     * @return The page to display, starting from 1
+     */
+    public int getPage() {
+        return getArguments().getInteger(0, 1);
+    }
+
+    /**
+     * Returns the number of Tasks on each page of the TaskList.
+     *
+     * @return The number of Tasks on each page
+     */
+    public int getPageSize() {
+        return getArguments().getInteger(1, DEFAULT_PAGE_SIZE);
+    }
+}
@@ -0,0 +1,14 @@
+package duke.command;
+
+/**
+ * The Command which is used to instruct Duke to show how many commands it has executed, and how long they took.
+ */
+public class ShowStatsCommand extends Command {
+
+    /**
+     * Constructs the Command which is used to instruct Duke to show its Metrics.
+     */
+    ShowStatsCommand() {
+        super(Type.COMMAND_SHOW_STATS);
+    }
+}
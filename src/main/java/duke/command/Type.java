@@ -1,61 +1,99 @@
 package duke.command;
 
-import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 /**
  * The enumeration of the type of Commands which can be given to Duke to manipulate/display
  * information about the TaskList.
  *
- * <p>The enumeration also contains details such as the number of parameters that are expected for the
- * Command, the names of the parameters, and the delimiters used to separate multiple the different
- * arguments, if any.</p>
+ * <p>Each Type also holds the schema used to parse the arguments of a Command of that Type: the Parameters
+ * expected, their names, and the delimiters used to separate the different arguments, if any. The schema is
+ * computed once, when the Type is created, and is never modified afterwards.</p>
  */
 public enum Type {
-    COMMAND_EXIT(0),
-    COMMAND_SHOW_LIST(0),
-    COMMAND_DELETE_TASK(1, "task number"),
-    COMMAND_COMPLETE_TASK(1, "task number"),
-    COMMAND_SEARCH(1, "keyword"),
-    COMMAND_RELAX_SEARCH(1, "keyword"),
-    COMMAND_ADD_TODO(1, "description"),
-    COMMAND_ADD_DEADLINE(2, "description", "time", "/by"),
-    COMMAND_ADD_EVENT(2, "description", "time", "/at"),
-    COMMAND_LOAD_FILE(1, "file name"),
-    COMMAND_SAVE_FILE(1, "file name");
+    COMMAND_EXIT,
+    COMMAND_SHOW_LIST(
+            Parameter.integer("page").after("/page").optional(),
+            Parameter.integer("page size").after("/size").optional()),
+    COMMAND_DELETE_TASK(Parameter.integer("task number")),
+    COMMAND_COMPLETE_TASK(Parameter.integer("task number")),
+    COMMAND_SEARCH(Parameter.text("keyword")),
+    COMMAND_RELAX_SEARCH(Parameter.text("keyword")),
+    COMMAND_ADD_TODO(Parameter.text("description")),
+    COMMAND_ADD_DEADLINE(Parameter.text("description"), Parameter.dateTime("time").after("/by")),
+    COMMAND_ADD_EVENT(Parameter.text("description"), Parameter.dateTime("time").after("/at")),
+    COMMAND_LOAD_FILE(Parameter.text("file name")),
+    COMMAND_SAVE_FILE(Parameter.text("file name")),
+    COMMAND_BEGIN_TRANSACTION,
+    COMMAND_COMMIT_TRANSACTION,
+    COMMAND_ROLLBACK_TRANSACTION,
+    COMMAND_UNDO,
+    COMMAND_REDO,
+    COMMAND_SHOW_STATS;
 
-    Type(int parametersExpected, String... parameterNamesAndDelimiters) {
-        this.parametersExpected = parametersExpected;
-        parameters = new ArrayList<String>();
-        delimiters = new ArrayList<String>();
-        for (int i = 0; i < parameterNamesAndDelimiters.length; i++) {
-            if (i < parametersExpected) {
-                parameters.add(parameterNamesAndDelimiters[i]);
-            } else {
-                delimiters.add(parameterNamesAndDelimiters[i]);
+    // the slot returned for words which are not delimiters
+    static final int NO_SLOT = -1;
+
+    private final Parameter[] parameters;
+    private final List<String> parameterNames;
+    private final List<String> delimiters;
+    // maps each delimiter to the slot of the Parameter it marks the start of
+    private final Map<String, Integer> delimiterSlots;
+
+    Type(Parameter... parameters) {
+        this.parameters = parameters;
+
+        String[] names = new String[parameters.length];
+        String[] delimitersUsed = new String[parameters.length];
+        int delimiterCount = 0;
+        HashMap<String, Integer> slots = new HashMap<String, Integer>();
+
+        for (int slot = 0; slot < parameters.length; slot++) {
+            names[slot] = parameters[slot].getName();
+            String delimiter = parameters[slot].getDelimiter();
+            if (delimiter == null) {
+                assert slot == 0 : "only the first Parameter can be given without a delimiter";
+                continue;
             }
+            delimitersUsed[delimiterCount++] = delimiter;
+            slots.put(delimiter, slot);
         }
+
+        parameterNames = Collections.unmodifiableList(Arrays.asList(names));
+        delimiters = Collections.unmodifiableList(Arrays.asList(Arrays.copyOf(delimitersUsed, delimiterCount)));
+        delimiterSlots = Collections.unmodifiableMap(slots);
     }
 
-    private int parametersExpected;
-    private ArrayList<String> parameters;
-    private ArrayList<String> delimiters;
+    /**
+     * Returns an unmodifiable List of the delimiters used, if any, to separate arguments in a Command of this Type.
+     *
+     * @return An unmodifiable List of the delimiters used, if any, to separate arguments in a Command of this Type.
+     */
+    public List<String> getDelimiters() {
+        return delimiters;
+    }
 
     /**
-     * Returns an ArrayList of the delimiters used, if any, to to separate arguments in this a Command of this Type.
+     * Returns an unmodifiable List of the parameter names, if any, of Command of this Type.
      *
-     * @return An ArrayList of the delimiters used if any, to to separate arguments in this a Command of this Type.
+     * @return An unmodifiable List of the parameter names, if any, of Command of this Type.
      */
-    public ArrayList<String> getDelimiters() {
-        return new ArrayList<String>(delimiters);
+    public List<String> getParameters() {
+        return parameterNames;
     }
 
     /**
-     * Returns an ArrayList of the parameter names, if any, of Command of this Type.
+     * Returns the Parameter of a Command of this Type in the given slot.
      *
-     * @return An ArrayList of the parameter names, if any, of Command of this Type.
+     * @param slot The position of the Parameter, starting from 0
+     * @return The Parameter in the given slot
      */
-    public ArrayList<String> getParameters() {
-        return new ArrayList<String>(parameters);
+    public Parameter getParameter(int slot) {
+        return parameters[slot];
     }
 
     /**
@@ -64,7 +102,27 @@ public enum Type {
      * @return The number of arguments expected for a Command of the Type.
      */
     public int getNumberOfArgumentsExpected() {
-        return parametersExpected;
+        return parameters.length;
     }
 
-}
\ No newline at end of file
+    /**
+     * Returns true if the first argument for a Command of this Type is given without a delimiter.
+     *
+     * @return True if the first argument is given without a delimiter, false otherwise
+     */
+    boolean hasLeadingParameter() {
+        return parameters.length > 0 && parameters[0].getDelimiter() == null;
+    }
+
+    /**
+     * Returns the slot of the Parameter which argument starts after the given word, if the word is a delimiter
+     * of this Type.
+     *
+     * @param word The word which may be a delimiter
+     * @return The slot of the Parameter, or NO_SLOT if the word is not a delimiter of this Type
+     */
+    int getSlotOfDelimiter(String word) {
+        Integer slot = delimiterSlots.get(word);
+        return slot == null ? NO_SLOT : slot;
+    }
+}
@@ -0,0 +1,14 @@
+package duke.command;
+
+/**
+ * The Command which is used to instruct Duke to undo the last change made to the TaskList.
+ */
+public class UndoCommand extends Command {
+
+    /**
+     * Constructs the Command which is used to instruct Duke to undo the last change made to the TaskList.
+     */
+    UndoCommand() {
+        super(Type.COMMAND_UNDO);
+    }
+}
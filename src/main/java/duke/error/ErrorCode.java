@@ -0,0 +1,35 @@
+package duke.error;
+
+/**
+ * The enumeration of the kinds of errors which can occur when Duke tries to carry out an instruction.
+ */
+public enum ErrorCode {
+    // no command was given
+    MISSING_COMMAND,
+    // the command given is not a command Duke knows
+    UNKNOWN_COMMAND,
+    // a required argument for the command was not given
+    MISSING_ARGUMENT,
+    // an argument for the command cannot be converted to the type required
+    INCORRECT_PARAMETER_TYPE,
+    // no TaskList has been loaded for the command to work on
+    NO_TASK_LIST,
+    // the number given does not correspond to a Task in the TaskList
+    NO_CORRESPONDING_TASK,
+    // a transaction is in progress, which prevents the command from being carried out
+    TRANSACTION_IN_PROGRESS,
+    // the command needs a transaction to be in progress, but none is
+    NO_TRANSACTION,
+    // there is no change to undo or redo
+    NO_HISTORY,
+    // the page of Tasks asked for does not exist
+    NO_SUCH_PAGE,
+    // Duke is not accepting commands
+    INACTIVE,
+    // the command is not supported yet
+    UNSUPPORTED,
+    // the TaskList could not be read from or written to its save file
+    STORAGE,
+    // the command failed unexpectedly
+    INTERNAL
+}
@@ -0,0 +1,133 @@
+package duke.error;
+
+/**
+ * The outcome of trying to carry out an instruction, which is either a value if the instruction was carried out
+ * successfully, or an ErrorCode and an error message if it was not.
+ *
+ * <p>Outcomes are used instead of throwing a DukeException for errors which are caused by invalid user input,
+ * which are expected to happen often, so that reporting them does not require capturing a stack trace.
+ * DukeExceptions are still thrown for errors which should not normally happen, such as failing to read or
+ * write a save file.</p>
+ *
+ * @param <T> The type of the value of a successful Outcome
+ */
+public final class Outcome<T> {
+    private static final Outcome<Void> SUCCESS = new Outcome<Void>(null, null, null);
+
+    private final T value;
+    private final ErrorCode errorCode;
+    private final String errorMessage;
+
+    private Outcome(T value, ErrorCode errorCode, String errorMessage) {
+        this.value = value;
+        this.errorCode = errorCode;
+        this.errorMessage = errorMessage;
+    }
+
+    /**
+     * Returns a successful Outcome without a value.
+     *
+     * @return A successful Outcome without a value
+     */
+    public static Outcome<Void> success() {
+        return SUCCESS;
+    }
+
+    /**
+     * Returns a successful Outcome with the given value.
+     *
+     * @param value The value resulting from carrying out the instruction
+     * @param <T> The type of the value
+     * @return A successful Outcome with the given value
+     */
+    public static <T> Outcome<T> success(T value) {
+        return new Outcome<T>(value, null, null);
+    }
+
+    /**
+     * Returns a failed Outcome with the given ErrorCode and error message.
+     *
+     * @param errorCode The kind of error which occurred
+     * @param errorMessages The message explaining the error, which is appended together if given in segments
+     * @param <T> The type of the value a successful Outcome would have had
+     * @return A failed Outcome
+     */
+    public static <T> Outcome<T> failure(ErrorCode errorCode, String... errorMessages) {
+        assert errorCode != null;
+        assert errorMessages != null;
+        return new Outcome<T>(null, errorCode, append(errorMessages));
+    }
+
+    /**
+     * Returns a failed Outcome with the same ErrorCode and error message as the given failed Outcome.
+     *
+     * @param failure The failed Outcome, which may have a value of a different type
+     * @param <T> The type of the value a successful Outcome would have had
+     * @return A failed Outcome
+     */
+    public static <T> Outcome<T> failure(Outcome<?> failure) {
+        assert failure.isFailure();
+        return new Outcome<T>(null, failure.errorCode, failure.errorMessage);
+    }
+
+    /**
+     * Helper method to append the String segments provided together into one String.
+     */
+    private static String append(String... segments) {
+        if (segments.length == 1) {
+            return segments[0];
+        }
+        StringBuilder message = new StringBuilder();
+        for (String segment : segments) {
+            assert segment != null;
+            message.append(segment);
+        }
+        return message.toString();
+    }
+
+    /**
+     * Returns true if the instruction was carried out successfully, false otherwise.
+     *
+     * @return True if the instruction was carried out successfully, false otherwise
+     */
+    public boolean isSuccess() {
+        return errorCode == null;
+    }
+
+    /**
+     * Returns true if an error occurred when trying to carry out the instruction, false otherwise.
+     *
+     * @return True if an error occurred, false otherwise
+     */
+    public boolean isFailure() {
+        return errorCode != null;
+    }
+
+    /**
+     * Returns the value resulting from carrying out the instruction successfully.
+     *
+     * @return The value of the successful Outcome
+     */
+    public T getValue() {
+        assert isSuccess() : "a failed Outcome does not have a value";
+        return value;
+    }
+
+    /**
+     * Returns the kind of error which occurred, if any.
+     *
+     * @return The ErrorCode of the error, or null if the Outcome is successful
+     */
+    public ErrorCode getErrorCode() {
+        return errorCode;
+    }
+
+    /**
+     * Returns the message explaining the error which occurred, if any.
+     *
+     * @return The error message, or null if the Outcome is successful
+     */
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+}
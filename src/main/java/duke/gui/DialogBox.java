@@ -1,38 +1,51 @@
 package duke.gui;
 
-import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
-import javafx.fxml.FXML;
-import javafx.fxml.FXMLLoader;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
-import javafx.scene.Node;
 import javafx.scene.control.Label;
 import javafx.scene.image.Image;
 import javafx.scene.layout.Background;
 import javafx.scene.layout.BackgroundFill;
 import javafx.scene.layout.CornerRadii;
 import javafx.scene.layout.HBox;
+import javafx.scene.layout.Region;
 import javafx.scene.paint.Color;
 import javafx.scene.paint.ImagePattern;
 import javafx.scene.shape.Circle;
+import javafx.scene.text.Font;
+import javafx.scene.text.FontWeight;
 
-import java.io.IOException;
-import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.IdentityHashMap;
 
 /**
- * A custom control using FXML.
+ * A custom control built in code.
  *
  * <p>This control represents dialog from either Duke or the user. It consists of a Circle with an ImagePattern
- * fill to represent the speaker, and a Label to display the message from the speaker.</p>
+ * fill to represent the speaker, and a Label to display the message from the speaker. A dialog box can be
+ * updated to display another message, so that the cells of the chat history can reuse it.</p>
+ *
+ * <p>Dialog boxes are built without loading FXML, and share their Backgrounds, Font and ImagePatterns, which are
+ * immutable. A small pool of dialog boxes which are no longer displayed is kept, so that they can be reused
+ * instead of being built again.</p>
  */
 class DialogBox extends HBox {
-    @FXML
-    private Label text;
-    @FXML
-    private Circle icon;
+    // the most dialog boxes kept in the pool
+    private static final int POOL_CAPACITY = 16;
+    private static final ArrayDeque<DialogBox> POOL = new ArrayDeque<DialogBox>(POOL_CAPACITY);
+    // the ImagePattern used to fill the icon with each display picture
+    private static final IdentityHashMap<Image, ImagePattern> ICON_PATTERNS =
+            new IdentityHashMap<Image, ImagePattern>();
+
+    private static final Insets DIALOGBOX_PADDING = new Insets(15, 5, 15, 5);
+    private static final double DIALOGBOX_PREF_WIDTH = 400.0;
+    private static final double ICON_RADIUS = 37.5;
+    private static final Color ICON_EMPTY_FILL = Color.web("#ffffff00");
+    private static final Color LABEL_TEXT_FILL = Color.web("#f5f5f5");
+    private static final Font LABEL_FONT = Font.font("System", FontWeight.BOLD, 13.0);
 
-    public static String DIALOG_BOX_RESOURCE_PATH = "/view/DialogBox.fxml";
+    private final Label text;
+    private final Circle icon;
 
 
     private static final Insets DIALOGBOX_BACKGROUND_INSET = new Insets(5,37.5,5,37.5);
@@ -45,127 +58,109 @@ class DialogBox extends HBox {
     private static final Color DIALOGBOX_BACKGROUND_BLUE = Color.rgb(0,0,100);
     private static final Color DIALOGBOX_BACKGROUND_GREEN = Color.rgb(0,100,0);
 
-    /**
-     * Constructs the dialog box.
-     *
-     * @param speakerText The speaker's text to be displayed in the dialog box
-     * @param image The image to be used as the display picture
-     */
-    private DialogBox(String speakerText, Image image) {
-        assert speakerText != null;
-        assert image != null;
-
-        try {
-            assert Paths.get("src", "main", "resources", DIALOG_BOX_RESOURCE_PATH)
-                    .toFile().exists() : "DialogBox.fxml file does not exist";
-            FXMLLoader fxmlLoader = new FXMLLoader(Gui.class.getResource(DIALOG_BOX_RESOURCE_PATH));
-            fxmlLoader.setController(this);
-            fxmlLoader.setRoot(this);
-            fxmlLoader.load();
-        } catch (IOException exception) {
-            exception.printStackTrace();
-        }
-
-        text.setText(speakerText);
-        text.setPadding(LABEL_PADDING_INSET_RIGHT);
+    // the backgrounds are immutable, so they are shared by all dialog boxes
+    private static final Background USER_BACKGROUND = getRoundedBackground(DIALOGBOX_BACKGROUND_GREEN);
+    private static final Background DUKE_NORMAL_BACKGROUND = getRoundedBackground(DIALOGBOX_BACKGROUND_BLUE);
+    private static final Background DUKE_ERROR_BACKGROUND = getRoundedBackground(DIALOGBOX_BACKGROUND_RED);
 
-        // formats the display picture
-        icon.setFill(new ImagePattern(image));
-    }
+    // the display picture currently used to fill the icon
+    private Image iconImage;
 
-    // mirrors the dialog box elements orientation
-    private void flip() {
-        this.setAlignment(Pos.CENTER_LEFT);
-        text.setPadding(LABEL_PADDING_INSET_LEFT);
-        ObservableList<Node> tmp = FXCollections.observableArrayList(this.getChildren());
-        FXCollections.reverse(tmp);
-        this.getChildren().setAll(tmp);
+    /**
+     * Constructs an empty dialog box, which can be reused to display different messages.
+     */
+    private DialogBox() {
+        setAlignment(Pos.CENTER_RIGHT);
+        setMaxSize(Double.MAX_VALUE, Double.MAX_VALUE);
+        setPrefWidth(DIALOGBOX_PREF_WIDTH);
+        setPadding(DIALOGBOX_PADDING);
+
+        text = new Label();
+        text.setMaxHeight(Double.MAX_VALUE);
+        text.setMinHeight(Region.USE_PREF_SIZE);
+        text.setStyle("-fx-label-padding: 10;");
+        text.setTextFill(LABEL_TEXT_FILL);
+        text.setWrapText(true);
+        text.setFont(LABEL_FONT);
+
+        icon = new Circle(ICON_RADIUS, ICON_EMPTY_FILL);
+
+        getChildren().setAll(text, icon);
     }
 
     /**
-     * Returns a dialog box formatted to display a message from the user.
+     * Returns an empty dialog box from the pool, or a new one if the pool is empty.
      *
-     * @param userText The user's message
-     * @param image The user's display picture
-     * @return The dialog box formatted to display the user's message
+     * @return An empty dialog box
      */
-    static DialogBox getUserDialog(String userText, Image image) {
-        assert userText != null;
-        assert image != null;
-
-        DialogBox user = new DialogBox(userText, image);
-
-        // sets the background to a green rounded corner box
-        user.setBackground(
-                new Background(
-                        new BackgroundFill(
-                                DIALOGBOX_BACKGROUND_GREEN,
-                                DIALOGBOX_BACKGROUND_RADII_TEN,
-                                DIALOGBOX_BACKGROUND_INSET
-                        )
-                )
-        );
-
-        return user;
+    static DialogBox obtain() {
+        DialogBox dialogBox = POOL.pollLast();
+        return dialogBox != null ? dialogBox : new DialogBox();
     }
 
     /**
-     * Returns a dialog box formatted to display messages from Duke.
+     * Returns the given dialog box, which is no longer displayed, to the pool so that it can be reused.
      *
-     * @param dukeText Duke's message
-     * @param image Duke's display picture
-     * @return The dialog box formatted to display duke's message
+     * @param dialogBox The dialog box which is no longer displayed
      */
-    static DialogBox getDukeNormalDialog(String dukeText, Image image) {
-        assert dukeText != null;
-        assert image != null;
-
-        DialogBox duke = new DialogBox(dukeText, image);
-
-        // sets the background to a blue rounded corner box
-        duke.setBackground(
-                new Background(
-                        new BackgroundFill(
-                                DIALOGBOX_BACKGROUND_BLUE,
-                                DIALOGBOX_BACKGROUND_RADII_TEN,
-                                DIALOGBOX_BACKGROUND_INSET
-                        )
-                )
-        );
-
-        duke.flip();
-
-        return duke;
+    static void release(DialogBox dialogBox) {
+        assert dialogBox != null;
+        if (POOL.size() < POOL_CAPACITY) {
+            POOL.addLast(dialogBox);
+        }
     }
 
     /**
-     * Returns a dialog box formatted to display error messages from Duke.
+     * Updates the dialog box to display the given message.
+     *
+     * <p>Messages from the user are shown with the display picture on the right, and messages from Duke with the
+     * display picture on the left.</p>
      *
-     * @param dukeErrorText Duke's error message
-     * @param image Duke's display picture
-     * @return The dialog box formatted to display duke's error message
+     * @param message The message to display
+     * @param image The display picture of the speaker of the message
      */
-    static DialogBox getDukeErrorDialog(String dukeErrorText, Image image) {
-        assert dukeErrorText != null;
+    void setMessage(Message message, Image image) {
+        assert message != null;
         assert image != null;
 
-        DialogBox duke = new DialogBox(dukeErrorText, image);
+        text.setText(message.getText());
 
-        // sets the background to a red rounded corner box
-        duke.setBackground(
-                new Background(
-                        new BackgroundFill(
-                                DIALOGBOX_BACKGROUND_RED,
-                                DIALOGBOX_BACKGROUND_RADII_TEN,
-                                DIALOGBOX_BACKGROUND_INSET
-                        )
-                )
-        );
+        // formats the display picture, only when it changes, and only once it has been decoded
+        if (image != iconImage && !ResourceRegistry.isLoaded(image)) {
+            icon.setFill(ICON_EMPTY_FILL);
+            // no picture is shown, so the next message sets one even if its picture is the last one shown
+            iconImage = null;
+        } else if (image != iconImage) {
+            icon.setFill(ICON_PATTERNS.computeIfAbsent(image, ImagePattern::new));
+            iconImage = image;
+        }
 
-        duke.flip();
+        switch (message.getKind()) {
+        case USER:
+            setBackground(USER_BACKGROUND);
+            setAlignment(Pos.CENTER_RIGHT);
+            text.setPadding(LABEL_PADDING_INSET_RIGHT);
+            getChildren().setAll(text, icon);
+            break;
+        case DUKE_ERROR:
+            setBackground(DUKE_ERROR_BACKGROUND);
+            flip();
+            break;
+        default:
+            setBackground(DUKE_NORMAL_BACKGROUND);
+            flip();
+            break;
+        }
+    }
 
-        return duke;
+    // mirrors the dialog box elements orientation
+    private void flip() {
+        this.setAlignment(Pos.CENTER_LEFT);
+        text.setPadding(LABEL_PADDING_INSET_LEFT);
+        this.getChildren().setAll(icon, text);
     }
 
+    private static Background getRoundedBackground(Color color) {
+        return new Background(new BackgroundFill(color, DIALOGBOX_BACKGROUND_RADII_TEN, DIALOGBOX_BACKGROUND_INSET));
+    }
 }
-
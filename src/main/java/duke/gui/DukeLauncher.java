@@ -7,6 +7,7 @@ import javafx.application.Application;
  */
 public class DukeLauncher {
     public static void main(String[] args) {
+        Gui.launchTime = System.nanoTime();
         Application.launch(Gui.class, args);
     }
 }
\ No newline at end of file
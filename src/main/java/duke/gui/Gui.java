@@ -1,14 +1,15 @@
 package duke.gui;
 
+import duke.metrics.Metrics;
 import duke.ui.Duke;
 
+import javafx.animation.AnimationTimer;
 import javafx.application.Application;
 import javafx.application.Platform;
 
 import javafx.fxml.FXMLLoader;
 
 import javafx.scene.Scene;
-import javafx.scene.image.Image;
 import javafx.scene.input.KeyCode;
 import javafx.scene.layout.AnchorPane;
 import javafx.scene.paint.Color;
@@ -23,12 +24,20 @@ import java.nio.file.Paths;
  * A GUI for Duke using FXML/JavaFX.
  */
 public class Gui extends Application {
+    // set to true to print how long it takes for the first frame of the window to be shown
+    public static String STARTUP_TIMING_PROPERTY = "duke.startup.timing";
+    // the time at which the GUI was launched, or 0 if it was not launched with DukeLauncher
+    static long launchTime;
 
     private Duke duke = new Duke();
 
     @Override
     public void start(javafx.stage.Stage stage) {
+        long startTime = System.nanoTime();
         try {
+            // decodes the display pictures in the background while the FXML is loaded
+            ResourceRegistry.preload();
+
             assert Paths.get("src", "main", "resources", MainWindow.MAIN_WINDOW_RESOURCE_PATH)
                     .toFile().exists() : "MainWindow.fxml does not exist";
             FXMLLoader fxmlLoader = new FXMLLoader();
@@ -44,6 +53,12 @@ public class Gui extends Application {
             stage.setTitle("Duke");
 
             stage.show();
+            measureTimeToFirstFrame(startTime);
+
+            // starting JMX takes a while, so the Metrics are registered for JMX clients off the JavaFX thread
+            Thread metricsRegistration = new Thread(Metrics::registerMBean, "duke-metrics");
+            metricsRegistration.setDaemon(true);
+            metricsRegistration.start();
 
             // print greeting message after the stage is shown
             fxmlLoader.<MainWindow>getController().activateDuke();
@@ -63,13 +78,39 @@ public class Gui extends Application {
         }
     }
 
+    /**
+     * Prints how long it took for the first frame of the window to be shown, if STARTUP_TIMING_PROPERTY is set.
+     *
+     * <p>The first frame is taken to be shown at the first pulse after the stage is shown.</p>
+     *
+     * @param startTime The time at which the GUI started to be set up
+     */
+    private void measureTimeToFirstFrame(long startTime) {
+        if (!Boolean.getBoolean(STARTUP_TIMING_PROPERTY)) {
+            return;
+        }
+        new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                stop();
+                long frameTime = System.nanoTime();
+                String sinceLaunch = (launchTime == 0)
+                        ? "launch time unknown"
+                        : (frameTime - launchTime) / 1_000_000 + " ms after launch";
+                System.out.printf("Time to first frame: %d ms after start(), %s%n",
+                        (frameTime - startTime) / 1_000_000, sinceLaunch);
+            }
+        }.start();
+    }
+
     private void showGoodbyePopup(Stage stage) {
         assert stage != null;
         assert stage.isShowing();
 
-        DialogBox box = DialogBox.getDukeNormalDialog(
-                "GoodBye! Hope to see you again!\n\nCLICK ME or PRESS ENTER",
-                new Image(Gui.class.getResourceAsStream(MainWindow.DUKE_IMAGE_RESOURCE_PATH)));
+        DialogBox box = DialogBox.obtain();
+        box.setMessage(
+                Message.fromDuke("GoodBye! Hope to see you again!\n\nCLICK ME or PRESS ENTER"),
+                ResourceRegistry.getDukeImage());
 
         Scene sc = new javafx.scene.Scene(box);
         sc.setFill(Color.TRANSPARENT);
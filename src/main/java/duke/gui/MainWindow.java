@@ -1,19 +1,41 @@
 package duke.gui;
 
+import duke.tasklist.TaskListChange;
 import duke.ui.Duke;
 
+import javafx.animation.PauseTransition;
+import javafx.application.Platform;
+import javafx.beans.property.ReadOnlyStringWrapper;
+import javafx.concurrent.Task;
 import javafx.fxml.FXML;
 import javafx.beans.property.SimpleBooleanProperty;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.geometry.Side;
 import javafx.scene.control.Button;
+import javafx.scene.control.ContextMenu;
 import javafx.scene.control.Label;
-import javafx.scene.control.ScrollPane;
+import javafx.scene.control.ListView;
+import javafx.scene.control.MenuItem;
+import javafx.scene.control.TableCell;
+import javafx.scene.control.TableColumn;
+import javafx.scene.control.TableView;
 import javafx.scene.control.TextField;
 import javafx.scene.image.Image;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.AnchorPane;
-import javafx.scene.layout.VBox;
+import javafx.scene.layout.HBox;
+import javafx.util.Duration;
 
 import duke.ui.Response;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
 /**
  * The main window of the JavaFX GUI for Duke.
  */
@@ -22,11 +44,15 @@ public class MainWindow extends AnchorPane {
     public static String MAIN_WINDOW_RESOURCE_PATH = "/view/MainWindow.fxml";
     public static String USER_IMAGE_RESOURCE_PATH = "/images/user_icon.png";
     public static String DUKE_IMAGE_RESOURCE_PATH = "/images/duke_icon.png";
+    public static int MAX_SUGGESTIONS = 5;
+    // how long a command must run for before its progress is shown
+    public static Duration PROGRESS_DELAY = Duration.millis(200);
+    // how long the user must stop typing in the search field for before searching
+    public static Duration SEARCH_DEBOUNCE_DELAY = Duration.millis(150);
+    public static int MAX_SEARCH_RESULTS_SHOWN = 100;
 
     @FXML
-    private ScrollPane scrollPane;
-    @FXML
-    private VBox dialogContainer;
+    private ListView<Message> dialogList;
     @FXML
     private TextField userInput;
     @FXML
@@ -34,6 +60,26 @@ public class MainWindow extends AnchorPane {
     @FXML
     private Label dukeStorageName;
     @FXML
+    private HBox progressPane;
+    @FXML
+    private TextField searchField;
+    @FXML
+    private Label searchSummary;
+    @FXML
+    private ListView<String> searchResults;
+    @FXML
+    private TableView<TaskRow> taskTable;
+    @FXML
+    private TableColumn<TaskRow, String> taskNumberColumn;
+    @FXML
+    private TableColumn<TaskRow, String> taskTypeColumn;
+    @FXML
+    private TableColumn<TaskRow, String> taskStatusColumn;
+    @FXML
+    private TableColumn<TaskRow, String> taskDescriptionColumn;
+    @FXML
+    private TableColumn<TaskRow, String> taskTimeColumn;
+    @FXML
     SimpleBooleanProperty dukeActivityStatus;
 
     private Duke duke;
@@ -41,13 +87,120 @@ public class MainWindow extends AnchorPane {
     private Image userImage;
     private Image dukeImage;
 
+    // the chat history, of which only the visible messages have nodes in the scene graph
+    private ObservableList<Message> messages;
+    // the rows of the task table, kept in the same order as the Tasks in Duke's TaskList
+    private ObservableList<TaskRow> taskRows;
+    private Label emptyTablePlaceholder;
+
+    // the completions of the user's input, shown above the text field as the user types
+    private ContextMenu suggestionMenu;
+    private List<String> suggestions;
+
+    // runs the commands given to Duke one at a time, off the JavaFX Application Thread
+    private ExecutorService commandExecutor;
+    // the command being run, or null if no command is being run
+    private Task<Response> runningCommand;
+    // the thread running the command, which is interrupted to cancel it
+    private volatile Thread commandThread;
+    private PauseTransition progressDelay;
+
+    // runs the searches as the user types, apart from the commands, so that a long command does not hold them up
+    private ExecutorService searchExecutor;
+    private PauseTransition searchDebounce;
+    // the search being run or waiting to be run, or null if there is none
+    private Task<SearchResults> runningSearch;
+    // increases with each search, so that the results of a search which was superseded are discarded
+    private long searchGeneration;
+
     @FXML
     private void initialize() {
         dukeActivityStatus = new SimpleBooleanProperty();
-        scrollPane.vvalueProperty().bind(dialogContainer.heightProperty());
-        userImage = new Image(Gui.class.getResourceAsStream(USER_IMAGE_RESOURCE_PATH));
-        dukeImage = new Image(Gui.class.getResourceAsStream(DUKE_IMAGE_RESOURCE_PATH));
-        dialogContainer.setPrefWidth(scrollPane.getPrefViewportWidth());
+        userImage = ResourceRegistry.getUserImage();
+        dukeImage = ResourceRegistry.getDukeImage();
+
+        messages = FXCollections.observableArrayList();
+        dialogList.setItems(messages);
+        dialogList.setCellFactory(listView -> new MessageCell(userImage, dukeImage));
+        dialogList.setFocusTraversable(false);
+        // the display pictures may still be being decoded, in which case the dialogs show them once they are
+        ResourceRegistry.whenLoaded(dialogList::refresh);
+
+        taskRows = FXCollections.observableArrayList();
+        taskTable.setItems(taskRows);
+        emptyTablePlaceholder = new Label("Your list is empty!");
+        taskTable.setPlaceholder(emptyTablePlaceholder);
+        taskNumberColumn.setCellFactory(column -> new TaskNumberCell());
+        taskTypeColumn.setCellValueFactory(row -> new ReadOnlyStringWrapper(row.getValue().getType()));
+        taskStatusColumn.setCellValueFactory(row -> new ReadOnlyStringWrapper(row.getValue().getStatus()));
+        taskDescriptionColumn.setCellValueFactory(row -> new ReadOnlyStringWrapper(row.getValue().getDescription()));
+        taskTimeColumn.setCellValueFactory(row -> new ReadOnlyStringWrapper(row.getValue().getTime()));
+
+        suggestionMenu = new ContextMenu();
+        suggestions = List.of();
+        userInput.textProperty().addListener((observable, oldText, newText) -> showSuggestions(newText));
+        userInput.addEventFilter(KeyEvent.KEY_PRESSED, this::handleSuggestionKey);
+
+        commandExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "duke-command");
+            thread.setDaemon(true);
+            return thread;
+        });
+        progressDelay = new PauseTransition(PROGRESS_DELAY);
+        progressDelay.setOnFinished(event -> progressPane.setVisible(true));
+
+        searchExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "duke-search");
+            thread.setDaemon(true);
+            return thread;
+        });
+        searchDebounce = new PauseTransition(SEARCH_DEBOUNCE_DELAY);
+        searchDebounce.setOnFinished(event -> runSearch(searchField.getText()));
+        searchField.textProperty().addListener((observable, oldQuery, newQuery) -> searchDebounce.playFromStart());
+    }
+
+    /**
+     * Shows the completions of the given user input, if there are any which differ from it.
+     *
+     * @param input The text in the text field
+     */
+    private void showSuggestions(String input) {
+        // Duke is only used by one thread at a time, so no suggestions are given while a command is running
+        suggestions = (duke == null || input == null || runningCommand != null)
+                ? List.of()
+                : duke.getSuggestions(input, MAX_SUGGESTIONS);
+        if (suggestions.isEmpty() || (suggestions.size() == 1 && suggestions.get(0).equals(input))) {
+            suggestionMenu.hide();
+            return;
+        }
+
+        suggestionMenu.getItems().clear();
+        for (String suggestion : suggestions) {
+            MenuItem item = new MenuItem(suggestion);
+            item.setOnAction(event -> acceptSuggestion(suggestion));
+            suggestionMenu.getItems().add(item);
+        }
+        if (!suggestionMenu.isShowing()) {
+            suggestionMenu.show(userInput, Side.TOP, 0, 0);
+        }
+    }
+
+    /**
+     * Completes the user's input with the best suggestion when the tab key is pressed.
+     *
+     * @param event The key press in the text field
+     */
+    private void handleSuggestionKey(KeyEvent event) {
+        if (event.getCode() != KeyCode.TAB || suggestions.isEmpty()) {
+            return;
+        }
+        acceptSuggestion(suggestions.get(0));
+        event.consume();
+    }
+
+    private void acceptSuggestion(String suggestion) {
+        userInput.setText(suggestion);
+        userInput.positionCaret(suggestion.length());
     }
 
 
@@ -59,7 +212,42 @@ public class MainWindow extends AnchorPane {
     public void setDuke(Duke duke) {
         assert duke != null;
         this.duke = duke;
-        dukeStorageName.textProperty().bind(duke.observableStorageName);
+        // the storage name changes on the thread running commands, so the label is updated on the JavaFX thread
+        dukeStorageName.setText(duke.getStorageName());
+        duke.addStorageNameListener(newName -> Platform.runLater(() -> dukeStorageName.setText(newName)));
+        duke.addTaskListListener(this::applyTaskListChange);
+    }
+
+    /**
+     * Applies a change made to Duke's TaskList to the rows of the task table, so that only the rows affected by
+     * the change are updated.
+     *
+     * <p>The snapshots of the Tasks are taken on the thread which made the change, and the rows are updated on
+     * the JavaFX Application Thread, in the order the changes were made.</p>
+     *
+     * @param change The change made to Duke's TaskList
+     */
+    private void applyTaskListChange(TaskListChange change) {
+        ArrayList<TaskRow> rows = new ArrayList<TaskRow>(change.getTasks().size());
+        for (duke.tasklist.Task task : change.getTasks()) {
+            rows.add(new TaskRow(task));
+        }
+
+        Platform.runLater(() -> {
+            switch (change.getKind()) {
+            case ADDED:
+                taskRows.addAll(change.getFromIndex(), rows);
+                break;
+            case REMOVED:
+                taskRows.remove(change.getFromIndex(), change.getToIndex());
+                break;
+            default:
+                for (int i = 0; i < rows.size(); i++) {
+                    taskRows.set(change.getFromIndex() + i, rows.get(i));
+                }
+                break;
+            }
+        });
     }
 
     /**
@@ -69,82 +257,229 @@ public class MainWindow extends AnchorPane {
      */
     void loadExistingTaskList(String fileName) {
         assert fileName != null;
-
-        Response response = duke.getResponse("load " + fileName);
-
-        if (!response.wasCausedByError()) {
-            display(DialogBox.getDukeNormalDialog(response.toString(), dukeImage));
-        } else {
-            display(DialogBox.getDukeErrorDialog(response.toString(), dukeImage));
-        }
+        // the window is shown while the TaskList loads, with placeholders until it has loaded
+        dukeStorageName.setText("Loading " + fileName + "...");
+        taskTable.setPlaceholder(new Label("Loading your tasks..."));
+        runCommand("load " + fileName);
     }
 
     /**
-     * Displays the Response from activating Duke.
+     * Activates Duke on the command thread, ahead of any command, and displays the Response once it is rendered.
      */
     void activateDuke() {
-        Response response = duke.greet();
-
-        assert response != null;
-        dukeActivityStatus.set(response.isActive());
-
-        assert response.toString() != null;
-        display(DialogBox.getDukeNormalDialog(response.toString(), dukeImage));
+        Task<Response> greeting = new Task<Response>() {
+            @Override
+            protected Response call() {
+                return rendered(duke.greet());
+            }
+        };
+        greeting.setOnSucceeded(event -> {
+            Response response = greeting.getValue();
+            assert response != null;
+            dukeActivityStatus.set(response.isActive());
+            display(Message.fromDuke(response.toString()));
+        });
+        commandExecutor.execute(greeting);
     }
 
 
     @FXML
     private void handleUserInput() {
+        if (runningCommand != null) {
+            // commands are run one at a time
+            return;
+        }
         String input = userInput.getText();
         assert input != null;
 
-        Response res = duke.getResponse(input);
+        display(Message.fromUser(input));
+        userInput.clear();
+        suggestionMenu.hide();
+        runCommand(input);
+    }
 
-        if (res.wasCausedByError()) {
-            displayError(input, res.toString());
+    @FXML
+    private void handleCancel() {
+        Thread thread = commandThread;
+        if (thread != null) {
+            thread.interrupt();
+        }
+    }
+
+    /**
+     * Runs the given user input as a command on the command thread, and displays Duke's Response once it is done
+     * and rendered.
+     *
+     * <p>The progress of the command is only shown if it takes longer than PROGRESS_DELAY, so that quick commands
+     * do not make the window flicker.</p>
+     *
+     * @param input The user input to give to Duke
+     */
+    private void runCommand(String input) {
+        assert runningCommand == null;
+        Task<Response> command = new Task<Response>() {
+            @Override
+            protected Response call() {
+                commandThread = Thread.currentThread();
+                try {
+                    return rendered(duke.getResponse(input));
+                } finally {
+                    commandThread = null;
+                }
+            }
+        };
+        command.setOnSucceeded(event -> finishCommand(command.getValue()));
+        command.setOnFailed(event -> finishCommand(command.getException()));
+
+        runningCommand = command;
+        sendButton.setDisable(true);
+        progressDelay.playFromStart();
+        commandExecutor.execute(command);
+    }
+
+    /**
+     * Helper method to render the text of the Response on the command thread, where it is kept by the Response, so
+     * that the JavaFX Application Thread only has to show it, however many Tasks it lists.
+     */
+    private static Response rendered(Response response) {
+        response.toString();
+        return response;
+    }
+
+    private void finishCommand(Response response) {
+        endCommand();
+        if (response.wasCausedByError()) {
+            display(Message.fromDukeError(response.toString()));
         } else {
-            displayDialog(input, res.toString());
+            display(Message.fromDuke(response.toString()));
         }
+        dukeActivityStatus.set(response.isActive());
+    }
 
-        userInput.clear();
-        dukeActivityStatus.set(res.isActive());
+    private void finishCommand(Throwable exception) {
+        endCommand();
+        if (exception instanceof CancellationException) {
+            display(Message.fromDukeError("Okay! I've stopped working on that."));
+        } else {
+            display(Message.fromDukeError("Something went wrong: " + exception));
+        }
+    }
+
+    private void endCommand() {
+        runningCommand = null;
+        progressDelay.stop();
+        progressPane.setVisible(false);
+        sendButton.setDisable(false);
+        // replaces the placeholders shown while loading, whether or not the command loaded a TaskList
+        taskTable.setPlaceholder(emptyTablePlaceholder);
+        dukeStorageName.setText(duke.getStorageName());
+
+        // the command may have changed which Tasks match the search
+        if (!searchField.getText().isBlank()) {
+            runSearch(searchField.getText());
+        }
     }
 
     /**
-     * Displays the user's message, and Duke's response message.
+     * Searches for the Tasks matching the given query on the search thread, and displays the matching Tasks once
+     * the search is done, unless another search was started in the meantime.
      *
-     * @param input The user's message to Duke
-     * @param response Duke's response to the user
+     * <p>Searches read a snapshot of the TaskList, so they run alongside any command being run, rather than
+     * waiting for it. A search which is still running or waiting to run when another search starts is cancelled,
+     * since its results would be discarded.</p>
+     *
+     * @param query The text in the search field
      */
-    private void displayDialog(String input, String response) {
-        assert input != null;
-        assert response != null;
+    private void runSearch(String query) {
+        if (runningSearch != null) {
+            runningSearch.cancel(true);
+            runningSearch = null;
+        }
+        long generation = ++searchGeneration;
+
+        if (query.isBlank()) {
+            searchResults.getItems().clear();
+            searchSummary.setText("");
+            return;
+        }
+
+        Task<SearchResults> search = new Task<SearchResults>() {
+            @Override
+            protected SearchResults call() {
+                return new SearchResults(duke.searchIncrementally(query.trim()));
+            }
+        };
+        search.setOnSucceeded(event -> {
+            if (generation != searchGeneration) {
+                return;
+            }
+            runningSearch = null;
+            SearchResults results = search.getValue();
+            searchResults.getItems().setAll(results.shown);
+            searchSummary.setText(results.getSummary());
+        });
+        search.setOnFailed(event -> {
+            if (generation == searchGeneration) {
+                runningSearch = null;
+                searchSummary.setText("The search failed: " + search.getException());
+            }
+        });
 
-        display(
-                DialogBox.getUserDialog(input, userImage),
-                DialogBox.getDukeNormalDialog(response, dukeImage)
-        );
+        runningSearch = search;
+        searchExecutor.execute(search);
     }
 
     /**
-     * Displays the user's message and Duke's error response message.
-     *
-     * @param input The user's message to Duke which causes an error
-     * @param response Duke's error response message
+     * The results of a search, as the number of matching Tasks and the text of those which are shown.
      */
-    private void displayError(String input, String response) {
-        assert input != null;
-        assert response != null;
+    private static final class SearchResults {
+        private final int matchCount;
+        private final List<String> shown;
+
+        /**
+         * Constructs the results of a search, taking the text of the matching Tasks to show on the thread which
+         * searched for them.
+         *
+         * @param matches The matching Tasks, in order
+         */
+        private SearchResults(List<duke.tasklist.Task> matches) {
+            matchCount = matches.size();
+            int shownCount = Math.min(matchCount, MAX_SEARCH_RESULTS_SHOWN);
+            ArrayList<String> texts = new ArrayList<String>(shownCount);
+            for (int i = 0; i < shownCount; i++) {
+                texts.add(matches.get(i).toString());
+            }
+            shown = texts;
+        }
 
-        display(
-                DialogBox.getUserDialog(input, userImage),
-                DialogBox.getDukeErrorDialog(response, dukeImage)
-        );
+        private String getSummary() {
+            if (matchCount > shown.size()) {
+                return String.format("%d matching task(s), showing the first %d", matchCount, shown.size());
+            }
+            return String.format("%d matching task(s)", matchCount);
+        }
     }
 
-    private void display(DialogBox... dialogs) {
-        for (DialogBox dialog : dialogs) {
-            dialogContainer.getChildren().add(dialog);
+    /**
+     * A cell of the task table which displays the number of the Task in its row, which changes as Tasks before
+     * it are added or removed even though its row does not.
+     */
+    private static class TaskNumberCell extends TableCell<TaskRow, String> {
+        @Override
+        public void updateIndex(int index) {
+            super.updateIndex(index);
+            boolean hasRow = index >= 0 && getTableView() != null && index < getTableView().getItems().size();
+            setText(hasRow ? Integer.toString(index + 1) : null);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Adds the given messages to the chat history, and scrolls to the latest message.
+     *
+     * @param newMessages The messages to add, in order
+     */
+    private void display(Message... newMessages) {
+        messages.addAll(newMessages);
+        dialogList.scrollTo(messages.size() - 1);
+    }
+}
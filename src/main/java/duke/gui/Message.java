@@ -0,0 +1,68 @@
+package duke.gui;
+
+/**
+ * A message in the chat history shown by the GUI, from either the user or Duke.
+ *
+ * <p>Only the messages are kept in the history. The nodes used to display them are created by the cells of
+ * the chat history, and reused as it is scrolled, so the length of the history does not affect the number
+ * of nodes in the scene graph.</p>
+ */
+final class Message {
+
+    /**
+     * The enumeration of the kinds of messages shown in the chat history.
+     */
+    enum Kind {
+        USER,
+        DUKE,
+        DUKE_ERROR
+    }
+
+    private final Kind kind;
+    private final String text;
+
+    private Message(Kind kind, String text) {
+        assert kind != null;
+        assert text != null;
+        this.kind = kind;
+        this.text = text;
+    }
+
+    /**
+     * Returns a message from the user.
+     *
+     * @param text The user's message
+     * @return The message from the user
+     */
+    static Message fromUser(String text) {
+        return new Message(Kind.USER, text);
+    }
+
+    /**
+     * Returns a normal message from Duke.
+     *
+     * @param text Duke's message
+     * @return The message from Duke
+     */
+    static Message fromDuke(String text) {
+        return new Message(Kind.DUKE, text);
+    }
+
+    /**
+     * Returns an error message from Duke.
+     *
+     * @param text Duke's error message
+     * @return The error message from Duke
+     */
+    static Message fromDukeError(String text) {
+        return new Message(Kind.DUKE_ERROR, text);
+    }
+
+    Kind getKind() {
+        return kind;
+    }
+
+    String getText() {
+        return text;
+    }
+}
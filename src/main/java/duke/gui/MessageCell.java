@@ -0,0 +1,54 @@
+package duke.gui;
+
+import javafx.scene.control.ContentDisplay;
+import javafx.scene.control.ListCell;
+import javafx.scene.image.Image;
+
+/**
+ * A cell of the chat history, which displays a Message in a DialogBox.
+ *
+ * <p>The ListView only creates enough cells to fill its visible area, and reuses them for other Messages as
+ * it is scrolled, so each cell holds a single DialogBox and updates it with the Message it is given. Cells
+ * without a Message return their DialogBox to the pool, for other cells to use.</p>
+ */
+class MessageCell extends ListCell<Message> {
+    private DialogBox dialogBox;
+    private final Image userImage;
+    private final Image dukeImage;
+
+    /**
+     * Constructs a cell of the chat history.
+     *
+     * @param userImage The user's display picture
+     * @param dukeImage Duke's display picture
+     */
+    MessageCell(Image userImage, Image dukeImage) {
+        assert userImage != null;
+        assert dukeImage != null;
+        this.userImage = userImage;
+        this.dukeImage = dukeImage;
+
+        // let the ListView decide the width, so that long messages wrap instead of scrolling sideways
+        setPrefWidth(0);
+        setContentDisplay(ContentDisplay.GRAPHIC_ONLY);
+        setStyle("-fx-background-color: transparent; -fx-padding: 0;");
+    }
+
+    @Override
+    protected void updateItem(Message message, boolean isEmpty) {
+        super.updateItem(message, isEmpty);
+        if (isEmpty || message == null) {
+            setGraphic(null);
+            if (dialogBox != null) {
+                DialogBox.release(dialogBox);
+                dialogBox = null;
+            }
+            return;
+        }
+        if (dialogBox == null) {
+            dialogBox = DialogBox.obtain();
+        }
+        dialogBox.setMessage(message, message.getKind() == Message.Kind.USER ? userImage : dukeImage);
+        setGraphic(dialogBox);
+    }
+}
@@ -0,0 +1,97 @@
+package duke.gui;
+
+import javafx.scene.image.Image;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+
+/**
+ * The registry of the images used by the GUI, which are each decoded once and shared.
+ *
+ * <p>Images are decoded in the background by JavaFX, so that decoding them at startup overlaps with loading
+ * the FXML of the main window. Nodes which display an image before it has been decoded should show a
+ * placeholder, and update themselves when notified that the images have been decoded.</p>
+ */
+class ResourceRegistry {
+    private static final HashMap<String, Image> IMAGES = new HashMap<String, Image>();
+    // run on the JavaFX Application Thread once every image requested so far has been decoded
+    private static final ArrayList<Runnable> ON_LOADED = new ArrayList<Runnable>();
+
+    /**
+     * Starts decoding the images used by the GUI in the background, if they are not being decoded already.
+     */
+    static void preload() {
+        getUserImage();
+        getDukeImage();
+    }
+
+    static Image getUserImage() {
+        return getImage(MainWindow.USER_IMAGE_RESOURCE_PATH);
+    }
+
+    static Image getDukeImage() {
+        return getImage(MainWindow.DUKE_IMAGE_RESOURCE_PATH);
+    }
+
+    /**
+     * Returns the image at the given resource path, which is decoded in the background the first time it is
+     * requested, and shared afterwards.
+     *
+     * @param resourcePath The path of the image resource
+     * @return The image, which may still be being decoded
+     */
+    static Image getImage(String resourcePath) {
+        Image image = IMAGES.get(resourcePath);
+        if (image == null) {
+            image = new Image(Gui.class.getResource(resourcePath).toExternalForm(), true);
+            IMAGES.put(resourcePath, image);
+            image.progressProperty().addListener((observable, oldProgress, newProgress) -> {
+                if (isLoaded()) {
+                    notifyLoaded();
+                }
+            });
+        }
+        return image;
+    }
+
+    /**
+     * Returns true if the given image has finished decoding, false otherwise.
+     *
+     * @param image The image
+     * @return True if the image has finished decoding, false otherwise
+     */
+    static boolean isLoaded(Image image) {
+        return image.getProgress() >= 1.0;
+    }
+
+    /**
+     * Runs the given action on the JavaFX Application Thread once every image requested so far has been
+     * decoded, or immediately if they have been decoded already.
+     *
+     * @param action The action to run
+     */
+    static void whenLoaded(Runnable action) {
+        if (isLoaded()) {
+            action.run();
+        } else {
+            ON_LOADED.add(action);
+        }
+    }
+
+    private static boolean isLoaded() {
+        for (Image image : IMAGES.values()) {
+            if (!isLoaded(image)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void notifyLoaded() {
+        ArrayList<Runnable> actions = new ArrayList<Runnable>(ON_LOADED);
+        ON_LOADED.clear();
+        for (Runnable action : actions) {
+            action.run();
+        }
+    }
+}
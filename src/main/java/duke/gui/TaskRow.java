@@ -0,0 +1,56 @@
+package duke.gui;
+
+import duke.tasklist.Deadline;
+import duke.tasklist.Event;
+import duke.tasklist.Task;
+
+/**
+ * A snapshot of a Task, displayed as a row of the task table.
+ *
+ * <p>Tasks are modified on the thread running commands, so the task table displays snapshots taken when it
+ * is notified of a change, rather than the Tasks themselves. A new snapshot also makes the table update the
+ * cells of its row, which it would not do if the same Task were set again.</p>
+ */
+final class TaskRow {
+    private final String type;
+    private final String status;
+    private final String description;
+    private final String time;
+
+    /**
+     * Constructs the snapshot of the given Task.
+     *
+     * @param task The Task to take a snapshot of
+     */
+    TaskRow(Task task) {
+        assert task != null;
+        description = task.getDescription();
+        status = task.isComplete() ? "✓" : "✗";
+        if (task instanceof Deadline) {
+            type = "D";
+            time = ((Deadline) task).time;
+        } else if (task instanceof Event) {
+            type = "E";
+            time = ((Event) task).time;
+        } else {
+            type = "T";
+            time = "";
+        }
+    }
+
+    String getType() {
+        return type;
+    }
+
+    String getStatus() {
+        return status;
+    }
+
+    String getDescription() {
+        return description;
+    }
+
+    String getTime() {
+        return time;
+    }
+}
@@ -16,4 +16,15 @@ public class DukeInvalidSaveFilePathException extends DukeException {
         super("Changes to your task list cannot be saved to " + path);
         assert path != null;
     }
+
+    /**
+     * Constructs DukeException to be thrown when a Duke TaskList cannot be written to its save file.
+     *
+     * @param path The file path of the save file which cannot be written to.
+     * @param reason The reason the save file cannot be written to.
+     */
+    DukeInvalidSaveFilePathException(String path, String reason) {
+        super("Changes to your task list cannot be saved to " + path + "\n" + reason);
+        assert path != null;
+    }
 }
\ No newline at end of file
@@ -1,12 +1,16 @@
 package duke.io;
 
 import duke.error.DukeException;
+import duke.metrics.LoadEvent;
+import duke.metrics.Metrics;
+import duke.metrics.SaveEvent;
 
 import duke.tasklist.ToDo;
 import duke.tasklist.Deadline;
 import duke.tasklist.Event;
 import duke.tasklist.Task;
 import duke.tasklist.TaskList;
+import duke.util.Cancellation;
 
 import java.io.BufferedReader;
 import java.io.File;
@@ -17,7 +21,13 @@ import java.io.FileNotFoundException;
 import java.io.UnsupportedEncodingException;
 import java.net.URLDecoder;
 import java.nio.charset.UnsupportedCharsetException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
 import java.util.regex.Pattern;
 
 
@@ -157,16 +167,19 @@ public class Storage {
      *
      * @return The TaskList read from data stored in the file
      * @throws DukeException Exception thrown when error occurs when trying to recreate the task list
+     * @throws java.util.concurrent.CancellationException if the current thread is interrupted while loading
      */
     public TaskList loadTaskList() throws DukeException {
-        try {
-            BufferedReader bufferedFileReader = new BufferedReader(new FileReader(saveFile));
-
+        long startTime = System.nanoTime();
+        LoadEvent event = new LoadEvent();
+        event.begin();
+        try (BufferedReader bufferedFileReader = new BufferedReader(new FileReader(saveFile))) {
             // populate tasklist
             TaskList taskList = new TaskList();
 
             for (int tasksRemaining = Integer.parseInt(bufferedFileReader.readLine());
                  tasksRemaining > 0; tasksRemaining--) {
+                Cancellation.checkpoint();
 
                 switch (bufferedFileReader.readLine()) {
                 case DEADLINE_FLAG:
@@ -182,6 +195,14 @@ public class Storage {
                     throw new DukeCorruptFileException(saveFile);
                 }
             }
+            long byteCount = saveFile.length();
+            Metrics.GLOBAL.recordLoad(byteCount, System.nanoTime() - startTime);
+            if (event.shouldCommit()) {
+                event.file = saveFile.getName();
+                event.listSize = taskList.size();
+                event.bytesRead = byteCount;
+                event.commit();
+            }
             return taskList;
         } catch (FileNotFoundException exception) {
             throw new DukeInvalidLoadFilePathException(saveFile.getAbsolutePath());
@@ -211,41 +232,91 @@ public class Storage {
     /**
      * Writes/Saves the TaskList into the save file.
      *
+     * <p>Saves are made one at a time, from a single snapshot of the TaskList, so that the file is consistent
+     * even when several threads change the TaskList and save it at once.</p>
+     *
+     * <p>The TaskList is written to a temporary file in the same folder, which is then moved over the save file in
+     * one step, so a crash or error part way through a save leaves the previous save file whole.</p>
+     *
      * @param taskList The TaskList to be saved in the file
      * @throws DukeException when error occurs while trying to save the TaskList
      */
-    public void save(TaskList taskList) throws DukeException {
+    public synchronized void save(TaskList taskList) throws DukeException {
         assert taskList != null : "tasklist is null";
-        FileWriter fileWriter;
+        long startTime = System.nanoTime();
+        SaveEvent event = new SaveEvent();
+        event.begin();
+        List<Task> tasks = taskList.snapshot();
+        Path tempFile = null;
         try {
-            fileWriter = new FileWriter(saveFile);
-
-            // list size
-            fileWriter.append(Integer.toString(taskList.size()));
-            fileWriter.append(System.lineSeparator());
-
-            // per task in list
-            for (Task task : taskList.list()) {
-                switch (task.getClass().getSimpleName()) {
-                case "ToDo":
-                    writeFromToDo((ToDo) task, fileWriter);
-                    break;
-                case "Event":
-                    writeFromEvent((Event) task, fileWriter);
-                    break;
-                case "Deadline":
-                    writeFromDeadline((Deadline) task, fileWriter);
-                    break;
-                default:
-                    break;
+            tempFile = Files.createTempFile(saveFile.getParentFile().toPath(), saveFile.getName(), ".tmp");
+            try (FileWriter fileWriter = new FileWriter(tempFile.toFile())) {
+                // list size
+                fileWriter.append(Integer.toString(tasks.size()));
+                fileWriter.append(System.lineSeparator());
+
+                // per task in list
+                for (Task task : tasks) {
+                    switch (task.getClass().getSimpleName()) {
+                    case "ToDo":
+                        writeFromToDo((ToDo) task, fileWriter);
+                        break;
+                    case "Event":
+                        writeFromEvent((Event) task, fileWriter);
+                        break;
+                    case "Deadline":
+                        writeFromDeadline((Deadline) task, fileWriter);
+                        break;
+                    default:
+                        break;
+                    }
                 }
             }
 
-            fileWriter.close();
-        } catch (FileNotFoundException exception) {
+            replaceSaveFile(tempFile);
+            tempFile = null;
+            long byteCount = saveFile.length();
+            Metrics.GLOBAL.recordSave(byteCount, System.nanoTime() - startTime);
+            if (event.shouldCommit()) {
+                event.file = saveFile.getName();
+                event.listSize = tasks.size();
+                event.bytesWritten = byteCount;
+                event.commit();
+            }
+        } catch (FileNotFoundException | NoSuchFileException exception) {
             throw new DukeInvalidSaveFilePathException(saveFile.getAbsolutePath());
         } catch (IOException exception) {
-            // FileNotFoundException should the only exception, if it is not then:
+            // the disk may be full, or the folder may not be writable, which leaves the save file as it was
+            throw new DukeInvalidSaveFilePathException(saveFile.getAbsolutePath(), exception.toString());
+        } finally {
+            deleteQuietly(tempFile);
+        }
+    }
+
+    /**
+     * Helper method to move the fully written temporary file over the save file, atomically where the file system
+     * allows it.
+     */
+    private void replaceSaveFile(Path tempFile) throws IOException {
+        try {
+            Files.move(tempFile, saveFile.toPath(), StandardCopyOption.ATOMIC_MOVE,
+                    StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException exception) {
+            // the file system cannot rename atomically, so replacing it is the best that can be done
+            Files.move(tempFile, saveFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Helper method to delete the temporary file left behind by a save which failed, if any.
+     */
+    private static void deleteQuietly(Path tempFile) {
+        if (tempFile == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(tempFile);
+        } catch (IOException exception) {
             System.err.println(exception.getMessage());
         }
     }
@@ -0,0 +1,37 @@
+package duke.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A flight recorder event for a Command executed by Duke, from parsing the input to executing the Command.
+ *
+ * <p>Like the other Duke events, it is only committed while a recording with the event enabled is running, such as
+ * one started with {@code -XX:StartFlightRecording}, and costs next to nothing otherwise.</p>
+ */
+@Name("duke.Command")
+@Label("Command")
+@Category("Duke")
+@Description("A command executed by Duke")
+@StackTrace(false)
+public final class CommandEvent extends Event {
+    @Label("Command")
+    @Description("The command word of the command")
+    public String command;
+
+    @Label("List Size")
+    @Description("The number of tasks in the task list after the command")
+    public int listSize;
+
+    @Label("Result Count")
+    @Description("The number of tasks shown in the response")
+    public int resultCount;
+
+    @Label("Failed")
+    @Description("Whether the command resulted in an error")
+    public boolean failed;
+}
@@ -0,0 +1,50 @@
+package duke.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The number of bytes moved by one kind of Storage operation, such as saving a TaskList, and how long the
+ * operations took.
+ */
+public final class IoStats {
+    private final LongAdder bytes = new LongAdder();
+    private final LatencyHistogram durations = new LatencyHistogram();
+
+    /**
+     * Records one operation.
+     *
+     * @param byteCount The number of bytes read or written
+     * @param nanos How long the operation took, in nanoseconds
+     */
+    public void record(long byteCount, long nanos) {
+        bytes.add(byteCount);
+        durations.record(nanos);
+    }
+
+    /**
+     * Returns the number of operations recorded.
+     *
+     * @return The number of operations
+     */
+    public long getCount() {
+        return durations.getCount();
+    }
+
+    /**
+     * Returns the number of bytes read or written by the operations recorded.
+     *
+     * @return The number of bytes
+     */
+    public long getBytes() {
+        return bytes.sum();
+    }
+
+    /**
+     * Returns the histogram of how long the operations took.
+     *
+     * @return The histogram of durations, in nanoseconds
+     */
+    public LatencyHistogram getDurations() {
+        return durations;
+    }
+}
@@ -0,0 +1,144 @@
+package duke.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A histogram of durations, which any number of threads can record into at once without locking.
+ *
+ * <p>Durations are counted in log-linear buckets, in the style of an HDR histogram: every power of two is split
+ * into SUB_BUCKET_COUNT buckets of equal width, so any duration from a nanosecond to centuries is counted within
+ * about 6% of its value, in a fixed number of counters. Recording a duration only increments counters, and
+ * allocates nothing.</p>
+ */
+public final class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    // durations below SUB_BUCKET_COUNT each have their own bucket, then each power of two has SUB_BUCKET_COUNT
+    private static final int BUCKET_COUNT = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder total = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Records the given duration.
+     *
+     * @param nanos The duration in nanoseconds, where negative durations are recorded as 0
+     */
+    public void record(long nanos) {
+        long duration = Math.max(nanos, 0);
+        counts.incrementAndGet(getBucket(duration));
+        count.increment();
+        total.add(duration);
+        max.accumulate(duration);
+    }
+
+    /**
+     * Returns the number of durations recorded.
+     *
+     * @return The number of durations recorded
+     */
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * Returns the sum of the durations recorded.
+     *
+     * @return The sum of the durations in nanoseconds
+     */
+    public long getTotal() {
+        return total.sum();
+    }
+
+    /**
+     * Returns the longest duration recorded.
+     *
+     * @return The longest duration in nanoseconds, or 0 if none were recorded
+     */
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * Returns the duration which the given fraction of the durations recorded are at most, to within the width
+     * of its bucket.
+     *
+     * <p>Durations recorded while the percentile is computed may or may not be counted.</p>
+     *
+     * @param fraction The fraction of the durations, from 0 to 1, such as 0.99 for the 99th percentile
+     * @return The upper bound of the bucket holding the percentile, in nanoseconds, or 0 if no durations were
+     *         recorded
+     */
+    public long getPercentile(double fraction) {
+        assert fraction >= 0 && fraction <= 1;
+        long[] snapshot = new long[BUCKET_COUNT];
+        long recorded = 0;
+        for (int bucket = 0; bucket < BUCKET_COUNT; bucket++) {
+            snapshot[bucket] = counts.get(bucket);
+            recorded += snapshot[bucket];
+        }
+        if (recorded == 0) {
+            return 0;
+        }
+
+        long rank = Math.max(1, (long) Math.ceil(fraction * recorded));
+        long seen = 0;
+        for (int bucket = 0; bucket < BUCKET_COUNT; bucket++) {
+            seen += snapshot[bucket];
+            if (seen >= rank) {
+                return Math.min(getUpperBound(bucket), getMax());
+            }
+        }
+        return getMax();
+    }
+
+    /**
+     * Returns the duration which the given fraction of the given durations are at most, ranked as getPercentile
+     * ranks the durations recorded in a histogram, for tools which keep every duration.
+     *
+     * @param sortedDurations The durations in nanoseconds, sorted in increasing order, of which there is at least one
+     * @param fraction The fraction of the durations, from 0 to 1, such as 0.99 for the 99th percentile
+     * @return The duration at the percentile, in nanoseconds
+     */
+    public static long getPercentile(long[] sortedDurations, double fraction) {
+        assert sortedDurations.length > 0;
+        assert fraction >= 0 && fraction <= 1;
+        int rank = Math.max(1, (int) Math.ceil(fraction * sortedDurations.length));
+        return sortedDurations[rank - 1];
+    }
+
+    /**
+     * Returns the bucket the given duration is counted in.
+     *
+     * @param duration The duration, which is not negative
+     * @return The index of the bucket
+     */
+    static int getBucket(long duration) {
+        if (duration < SUB_BUCKET_COUNT) {
+            return (int) duration;
+        }
+        // the bits after the highest one set choose the bucket within the power of two
+        int shift = (Long.SIZE - 1 - Long.numberOfLeadingZeros(duration)) - SUB_BUCKET_BITS;
+        int subBucket = (int) (duration >>> shift) & (SUB_BUCKET_COUNT - 1);
+        return (shift + 1) * SUB_BUCKET_COUNT + subBucket;
+    }
+
+    /**
+     * Returns the longest duration counted in the given bucket.
+     *
+     * @param bucket The index of the bucket
+     * @return The longest duration in the bucket
+     */
+    static long getUpperBound(int bucket) {
+        if (bucket < SUB_BUCKET_COUNT) {
+            return bucket;
+        }
+        int shift = bucket / SUB_BUCKET_COUNT - 1;
+        long lowerBound = (long) (SUB_BUCKET_COUNT + bucket % SUB_BUCKET_COUNT) << shift;
+        return lowerBound + (1L << shift) - 1;
+    }
+}
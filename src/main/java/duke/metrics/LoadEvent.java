@@ -0,0 +1,32 @@
+package duke.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A flight recorder event for a TaskList being loaded by a Storage.
+ */
+@Name("duke.Load")
+@Label("Load")
+@Category("Duke")
+@Description("A task list loaded from its save file")
+@StackTrace(false)
+public final class LoadEvent extends Event {
+    @Label("File")
+    @Description("The name of the save file")
+    public String file;
+
+    @Label("List Size")
+    @Description("The number of tasks loaded")
+    public int listSize;
+
+    @Label("Bytes Read")
+    @Description("The size of the save file read")
+    @DataAmount
+    public long bytesRead;
+}
@@ -0,0 +1,290 @@
+package duke.metrics;
+
+import duke.command.Parser;
+import duke.command.Type;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.LongAdder;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * The counters and latency histograms of the commands Duke executes, the saves and loads of TaskLists, and
+ * the searches made.
+ *
+ * <p>Every Duke in the process records into the same Metrics, GLOBAL, so that a server running many TaskLists
+ * reports them together. Recording only increments counters kept for each Type of Command, so it takes no locks
+ * and allocates nothing. The Metrics are shown by the {@code stats} command, and can be read over JMX once
+ * registered with registerMBean.</p>
+ */
+public final class Metrics implements MetricsMBean {
+    /**
+     * The Metrics recorded into by every Duke in the process.
+     */
+    public static final Metrics GLOBAL = new Metrics();
+
+    private static final String OBJECT_NAME = "duke:type=Metrics";
+    private static final double NANOS_PER_MILLI = 1e6;
+
+    private final LatencyHistogram[] commandLatencies = new LatencyHistogram[Type.values().length];
+    private final LongAdder[] commandFailures = new LongAdder[Type.values().length];
+    private final LongAdder invalidInputs = new LongAdder();
+    private final IoStats saves = new IoStats();
+    private final IoStats loads = new IoStats();
+    private final LongAdder searches = new LongAdder();
+    private final LongAdder tasksScanned = new LongAdder();
+    private final LongAdder tasksFound = new LongAdder();
+    // the time each thread has spent saving and loading, so that it can be told apart from the rest of a command
+    private final ThreadLocal<long[]> storageNanos = ThreadLocal.withInitial(() -> new long[1]);
+
+    /**
+     * Constructs empty Metrics, for measuring Duke apart from the rest of the process.
+     */
+    public Metrics() {
+        for (int i = 0; i < commandLatencies.length; i++) {
+            commandLatencies[i] = new LatencyHistogram();
+            commandFailures[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Registers GLOBAL with the platform MBean server, so that JMX clients can read it, if it is not registered
+     * already.
+     *
+     * @return True if GLOBAL is registered, false if it could not be
+     */
+    public static synchronized boolean registerMBean() {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName(OBJECT_NAME);
+            if (!server.isRegistered(name)) {
+                server.registerMBean(GLOBAL, name);
+            }
+            return true;
+        } catch (JMException | SecurityException exception) {
+            System.err.println("Metrics could not be registered for JMX: " + exception.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Records a Command which was executed.
+     *
+     * @param type The Type of the Command
+     * @param nanos How long the Command took, in nanoseconds
+     * @param hasFailed True if the Command resulted in an error, false otherwise
+     */
+    public void recordCommand(Type type, long nanos, boolean hasFailed) {
+        commandLatencies[type.ordinal()].record(nanos);
+        if (hasFailed) {
+            commandFailures[type.ordinal()].increment();
+        }
+    }
+
+    /**
+     * Records input which could not be parsed as a Command.
+     */
+    public void recordInvalidInput() {
+        invalidInputs.increment();
+    }
+
+    /**
+     * Records a TaskList being saved.
+     *
+     * @param byteCount The size of the save file written
+     * @param nanos How long the save took, in nanoseconds
+     */
+    public void recordSave(long byteCount, long nanos) {
+        saves.record(byteCount, nanos);
+        storageNanos.get()[0] += nanos;
+    }
+
+    /**
+     * Records a TaskList being loaded.
+     *
+     * @param byteCount The size of the save file read
+     * @param nanos How long the load took, in nanoseconds
+     */
+    public void recordLoad(long byteCount, long nanos) {
+        loads.record(byteCount, nanos);
+        storageNanos.get()[0] += nanos;
+    }
+
+    /**
+     * Returns the total time the current thread has spent saving and loading TaskLists, so that the time spent
+     * during a command can be found from the difference before and after it.
+     *
+     * @return The time spent saving and loading, in nanoseconds
+     */
+    public long getStorageNanos() {
+        return storageNanos.get()[0];
+    }
+
+    /**
+     * Records a search of a TaskList.
+     *
+     * @param scanned The number of Tasks searched
+     * @param found The number of Tasks which matched
+     */
+    public void recordSearch(int scanned, int found) {
+        searches.increment();
+        tasksScanned.add(scanned);
+        tasksFound.add(found);
+    }
+
+    /**
+     * Returns the histogram of how long Commands of the given Type took.
+     *
+     * @param type The Type of Command
+     * @return The histogram of durations, in nanoseconds
+     */
+    public LatencyHistogram getCommandLatencies(Type type) {
+        return commandLatencies[type.ordinal()];
+    }
+
+    /**
+     * Returns the statistics of saving TaskLists.
+     *
+     * @return The statistics of saves
+     */
+    public IoStats getSaves() {
+        return saves;
+    }
+
+    /**
+     * Returns the statistics of loading TaskLists.
+     *
+     * @return The statistics of loads
+     */
+    public IoStats getLoads() {
+        return loads;
+    }
+
+    @Override
+    public long getCommandCount() {
+        long count = 0;
+        for (LatencyHistogram latencies : commandLatencies) {
+            count += latencies.getCount();
+        }
+        return count;
+    }
+
+    @Override
+    public long getCommandCountFor(String commandWord) {
+        Type type = getType(commandWord);
+        return (type == null) ? 0 : commandLatencies[type.ordinal()].getCount();
+    }
+
+    @Override
+    public double getCommandLatencyMillis(String commandWord, double fraction) {
+        Type type = getType(commandWord);
+        return (type == null) ? 0 : commandLatencies[type.ordinal()].getPercentile(fraction) / NANOS_PER_MILLI;
+    }
+
+    /**
+     * Returns the number of Commands of the given Type which resulted in an error.
+     *
+     * @param type The Type of Command
+     * @return The number of Commands which failed
+     */
+    public long getFailedCommandCount(Type type) {
+        return commandFailures[type.ordinal()].sum();
+    }
+
+    @Override
+    public long getFailedCommandCount() {
+        long count = 0;
+        for (LongAdder failures : commandFailures) {
+            count += failures.sum();
+        }
+        return count;
+    }
+
+    @Override
+    public long getInvalidInputCount() {
+        return invalidInputs.sum();
+    }
+
+    @Override
+    public long getSaveCount() {
+        return saves.getCount();
+    }
+
+    @Override
+    public long getSavedBytes() {
+        return saves.getBytes();
+    }
+
+    @Override
+    public long getLoadCount() {
+        return loads.getCount();
+    }
+
+    @Override
+    public long getLoadedBytes() {
+        return loads.getBytes();
+    }
+
+    @Override
+    public long getSearchCount() {
+        return searches.sum();
+    }
+
+    @Override
+    public long getTasksScanned() {
+        return tasksScanned.sum();
+    }
+
+    @Override
+    public long getTasksFound() {
+        return tasksFound.sum();
+    }
+
+    /**
+     * Returns the Metrics as text, with a line for each Type of Command executed, then the saves, loads and
+     * searches.
+     *
+     * @return The Metrics as text
+     */
+    @Override
+    public String getReport() {
+        StringBuilder report = new StringBuilder("Here is what I have done so far:");
+        for (Type type : Type.values()) {
+            LatencyHistogram latencies = commandLatencies[type.ordinal()];
+            if (latencies.getCount() > 0) {
+                report.append(String.format("%n%-9s %s, %d failed", Parser.getCommandWord(type),
+                        describe(latencies), getFailedCommandCount(type)));
+            }
+        }
+        report.append(String.format("%n%-9s %d", "invalid", getInvalidInputCount()));
+        report.append(String.format("%n%-9s %s, %d bytes", "saves", describe(saves.getDurations()),
+                saves.getBytes()));
+        report.append(String.format("%n%-9s %s, %d bytes", "loads", describe(loads.getDurations()),
+                loads.getBytes()));
+        report.append(String.format("%n%-9s %d, %d tasks scanned, %d found", "searches", getSearchCount(),
+                getTasksScanned(), getTasksFound()));
+        return report.toString();
+    }
+
+    /**
+     * Helper method to describe the count and percentiles of a histogram, in milliseconds.
+     */
+    private static String describe(LatencyHistogram latencies) {
+        return String.format("%d, p50 %.3f ms, p99 %.3f ms, max %.3f ms", latencies.getCount(),
+                latencies.getPercentile(0.5) / NANOS_PER_MILLI, latencies.getPercentile(0.99) / NANOS_PER_MILLI,
+                latencies.getMax() / NANOS_PER_MILLI);
+    }
+
+    /**
+     * Helper method to find the Type of Command given by the command word.
+     */
+    private static Type getType(String commandWord) {
+        for (Type type : Type.values()) {
+            if (commandWord.equals(Parser.getCommandWord(type))) {
+                return type;
+            }
+        }
+        return null;
+    }
+}
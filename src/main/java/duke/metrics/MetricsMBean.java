@@ -0,0 +1,48 @@
+package duke.metrics;
+
+/**
+ * The management interface through which JMX clients, such as JConsole, read the Metrics of a running Duke.
+ *
+ * <p>Durations are given in milliseconds, and commands are named by their command words, such as {@code find}.</p>
+ */
+public interface MetricsMBean {
+
+    long getCommandCount();
+
+    long getFailedCommandCount();
+
+    long getInvalidInputCount();
+
+    long getSaveCount();
+
+    long getSavedBytes();
+
+    long getLoadCount();
+
+    long getLoadedBytes();
+
+    long getSearchCount();
+
+    long getTasksScanned();
+
+    long getTasksFound();
+
+    String getReport();
+
+    /**
+     * Returns the number of commands with the given command word which were executed.
+     *
+     * @param commandWord The command word, such as {@code find}
+     * @return The number of commands, or 0 if the command word is not a command Duke knows
+     */
+    long getCommandCountFor(String commandWord);
+
+    /**
+     * Returns the given percentile of how long the commands with the given command word took.
+     *
+     * @param commandWord The command word, such as {@code find}
+     * @param fraction The fraction of the commands, from 0 to 1, such as 0.99 for the 99th percentile
+     * @return The percentile in milliseconds, or 0 if no such commands were executed
+     */
+    double getCommandLatencyMillis(String commandWord, double fraction);
+}
@@ -0,0 +1,30 @@
+package duke.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A flight recorder event for the user's input being parsed as a Command.
+ */
+@Name("duke.Parse")
+@Label("Parse")
+@Category("Duke")
+@Description("The user's input parsed as a command")
+@StackTrace(false)
+public final class ParseEvent extends Event {
+    @Label("Command")
+    @Description("The command word of the command, or null if the input is not a command")
+    public String command;
+
+    @Label("Input Length")
+    @Description("The number of characters in the input")
+    public int inputLength;
+
+    @Label("Failed")
+    @Description("Whether the input could not be parsed as a command")
+    public boolean failed;
+}
@@ -0,0 +1,32 @@
+package duke.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A flight recorder event for a TaskList being saved by a Storage.
+ */
+@Name("duke.Save")
+@Label("Save")
+@Category("Duke")
+@Description("A task list saved to its save file")
+@StackTrace(false)
+public final class SaveEvent extends Event {
+    @Label("File")
+    @Description("The name of the save file")
+    public String file;
+
+    @Label("List Size")
+    @Description("The number of tasks saved")
+    public int listSize;
+
+    @Label("Bytes Written")
+    @Description("The size of the save file written")
+    @DataAmount
+    public long bytesWritten;
+}
@@ -0,0 +1,30 @@
+package duke.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A flight recorder event for a search of a TaskList.
+ */
+@Name("duke.Search")
+@Label("Search")
+@Category("Duke")
+@Description("A search of a task list for a keyword")
+@StackTrace(false)
+public final class SearchEvent extends Event {
+    @Label("Relaxed")
+    @Description("Whether words within a few edits of the keyword also matched")
+    public boolean relaxed;
+
+    @Label("List Size")
+    @Description("The number of tasks searched")
+    public int listSize;
+
+    @Label("Result Count")
+    @Description("The number of tasks which matched")
+    public int resultCount;
+}
@@ -0,0 +1,315 @@
+package duke.metrics;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A log of the commands which took longer than a threshold, with the input given and how long each phase of the
+ * command took, so that reports of Duke freezing can be reproduced.
+ *
+ * <p>Each slow command is written as one line, such as {@code 2019-10-01T09:00:00Z thread=main command=list
+ * listSize=100000 totalMs=1520.3 parseMs=0.1 executeMs=820.0 persistMs=0.0 renderMs=700.2 input="list"}. Lines
+ * are handed to a background thread, through a bounded queue, so the thread executing the command never waits
+ * for the file. If the queue is full, the line is dropped and counted instead.</p>
+ *
+ * <p>The file is rotated once it would grow past MAX_FILE_BYTES: it is renamed with the suffix {@code .1}, older
+ * files move up by one, and only MAX_ROTATED_FILES of them are kept, so the log never takes more than a few
+ * megabytes.</p>
+ */
+public final class SlowCommandLog {
+    public static String DEFAULT_FILE_NAME = "DukeSlowCommands.log";
+    public static long DEFAULT_THRESHOLD_MILLIS = 1000;
+    public static long MAX_FILE_BYTES = 1_000_000;
+    public static int MAX_ROTATED_FILES = 2;
+
+    private static final int QUEUE_CAPACITY = 256;
+    // longer inputs are cut short, so that one huge input cannot fill the log
+    private static final int MAX_INPUT_LENGTH = 1000;
+    private static final double NANOS_PER_MILLI = 1e6;
+    private static SlowCommandLog defaultLog;
+
+    private final Path file;
+    private final long thresholdNanos;
+    private final BlockingQueue<Entry> queue = new ArrayBlockingQueue<Entry>(QUEUE_CAPACITY);
+    private final AtomicLong submitted = new AtomicLong();
+    private final LongAdder dropped = new LongAdder();
+    // the number of submitted lines which were written, or failed to be
+    private volatile long handled;
+    private Thread writer;
+
+    /**
+     * Constructs a log of the commands which take at least the given time, written to the given file.
+     *
+     * <p>The file is only created, and the background thread only started, when the first slow command is
+     * recorded.</p>
+     *
+     * @param file The path of the log file
+     * @param thresholdMillis The time a command must take to be logged, in milliseconds, or a negative number to
+     *                        log no commands
+     */
+    public SlowCommandLog(Path file, long thresholdMillis) {
+        assert file != null;
+        this.file = file;
+        this.thresholdNanos = (thresholdMillis < 0) ? -1 : TimeUnit.MILLISECONDS.toNanos(thresholdMillis);
+    }
+
+    /**
+     * Returns the log used by Duke unless it is given another, which writes to DEFAULT_FILE_NAME in the working
+     * directory, with a threshold of DEFAULT_THRESHOLD_MILLIS.
+     *
+     * @return The default log
+     */
+    public static synchronized SlowCommandLog getDefault() {
+        if (defaultLog == null) {
+            defaultLog = new SlowCommandLog(Paths.get(DEFAULT_FILE_NAME), DEFAULT_THRESHOLD_MILLIS);
+        }
+        return defaultLog;
+    }
+
+    /**
+     * Returns true if commands can be logged, false if the threshold is negative.
+     *
+     * @return True if commands can be logged, false otherwise
+     */
+    public boolean isEnabled() {
+        return thresholdNanos >= 0;
+    }
+
+    /**
+     * Returns true if a command which took the given time should be logged.
+     *
+     * @param nanos How long the command took, in nanoseconds
+     * @return True if the command should be logged, false otherwise
+     */
+    public boolean isSlow(long nanos) {
+        return thresholdNanos >= 0 && nanos >= thresholdNanos;
+    }
+
+    /**
+     * Records a slow command, to be written by the background thread.
+     *
+     * @param input The input given for the command
+     * @param command The command word of the command, or null if the input is not a command
+     * @param listSize The number of Tasks in the TaskList after the command
+     * @param threadName The name of the thread which executed the command
+     * @param phaseNanos How long parsing, executing, saving or loading, and rendering the command took, in
+     *                   nanoseconds, with -1 for phases which did not happen
+     */
+    public void record(String input, String command, int listSize, String threadName, long... phaseNanos) {
+        assert phaseNanos.length == Entry.PHASES.length;
+        submitted.incrementAndGet();
+        if (!queue.offer(new Entry(System.currentTimeMillis(), input, command, listSize, threadName, phaseNanos))) {
+            dropped.increment();
+            return;
+        }
+        startWriter();
+    }
+
+    /**
+     * Returns the number of slow commands which were not logged, because the queue was full.
+     *
+     * @return The number of slow commands dropped
+     */
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    /**
+     * Waits until every slow command recorded so far has been written to the file, or dropped.
+     *
+     * @param timeoutMillis The longest time to wait, in milliseconds
+     * @return True if every slow command was handled in time, false otherwise
+     * @throws InterruptedException when interrupted while waiting
+     */
+    public boolean awaitWritten(long timeoutMillis) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        while (handled + getDroppedCount() < submitted.get()) {
+            if (System.currentTimeMillis() >= deadline) {
+                return false;
+            }
+            Thread.sleep(10);
+        }
+        return true;
+    }
+
+    /**
+     * Helper method to start the background thread writing the file, if it has not been started.
+     */
+    private synchronized void startWriter() {
+        if (writer != null) {
+            return;
+        }
+        writer = new Thread(this::writeEntries, "duke-slow-command-log");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * Helper method run by the background thread, writing each slow command as it is recorded, and flushing the
+     * file whenever no more are waiting.
+     */
+    private void writeEntries() {
+        BufferedWriter out = null;
+        long fileSize = 0;
+        boolean hasReportedError = false;
+        while (true) {
+            Entry entry;
+            try {
+                entry = queue.take();
+            } catch (InterruptedException exception) {
+                return;
+            }
+
+            String line = entry.format() + System.lineSeparator();
+            long lineSize = line.getBytes(StandardCharsets.UTF_8).length;
+            try {
+                if (out == null) {
+                    out = open();
+                    fileSize = Files.size(file);
+                }
+                if (fileSize > 0 && fileSize + lineSize > MAX_FILE_BYTES) {
+                    out.close();
+                    rotate();
+                    out = open();
+                    fileSize = 0;
+                }
+                out.write(line);
+                fileSize += lineSize;
+                if (queue.isEmpty()) {
+                    out.flush();
+                }
+            } catch (IOException exception) {
+                if (!hasReportedError) {
+                    System.err.println("Slow commands could not be logged to " + file + ": "
+                            + exception.getMessage());
+                    hasReportedError = true;
+                }
+                out = closeQuietly(out);
+            }
+            handled++;
+        }
+    }
+
+    private BufferedWriter open() throws IOException {
+        return Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    /**
+     * Helper method to rename the file with the suffix .1, moving older files up by one and deleting the oldest.
+     */
+    private void rotate() throws IOException {
+        Files.deleteIfExists(getRotatedFile(MAX_ROTATED_FILES));
+        for (int i = MAX_ROTATED_FILES - 1; i >= 1; i--) {
+            if (Files.exists(getRotatedFile(i))) {
+                Files.move(getRotatedFile(i), getRotatedFile(i + 1), StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+        if (MAX_ROTATED_FILES > 0) {
+            Files.move(file, getRotatedFile(1), StandardCopyOption.REPLACE_EXISTING);
+        } else {
+            Files.delete(file);
+        }
+    }
+
+    /**
+     * Helper method to close the file after an error, if it is open, returning null to show it is closed.
+     */
+    private static BufferedWriter closeQuietly(BufferedWriter out) {
+        if (out != null) {
+            try {
+                out.close();
+            } catch (IOException exception) {
+                // the file is already failing, and is opened again for the next slow command
+            }
+        }
+        return null;
+    }
+
+    private Path getRotatedFile(int number) {
+        return file.resolveSibling(file.getFileName() + "." + number);
+    }
+
+    /**
+     * A slow command waiting to be written.
+     */
+    private static class Entry {
+        private static final String[] PHASES = {"parse", "execute", "persist", "render"};
+
+        private final long time;
+        private final String input;
+        private final String command;
+        private final int listSize;
+        private final String threadName;
+        private final long[] phaseNanos;
+
+        private Entry(long time, String input, String command, int listSize, String threadName,
+                long[] phaseNanos) {
+            this.time = time;
+            this.input = input;
+            this.command = command;
+            this.listSize = listSize;
+            this.threadName = threadName;
+            this.phaseNanos = phaseNanos;
+        }
+
+        private String format() {
+            long totalNanos = 0;
+            for (long nanos : phaseNanos) {
+                totalNanos += Math.max(nanos, 0);
+            }
+            StringBuilder line = new StringBuilder(Instant.ofEpochMilli(time).toString())
+                    .append(" thread=").append(threadName.replace(' ', '_'))
+                    .append(" command=").append(command)
+                    .append(" listSize=").append(listSize)
+                    .append(String.format(" totalMs=%.1f", totalNanos / NANOS_PER_MILLI));
+            for (int i = 0; i < PHASES.length; i++) {
+                line.append(' ').append(PHASES[i]).append("Ms=");
+                if (phaseNanos[i] < 0) {
+                    line.append('-');
+                } else {
+                    line.append(String.format("%.1f", phaseNanos[i] / NANOS_PER_MILLI));
+                }
+            }
+            return line.append(" input=").append(quote(input)).toString();
+        }
+
+        /**
+         * Helper method to quote the input on one line, escaping quotes, backslashes and line breaks, and cutting
+         * it short if it is longer than MAX_INPUT_LENGTH.
+         */
+        private static String quote(String input) {
+            StringBuilder quoted = new StringBuilder("\"");
+            int length = Math.min(input.length(), MAX_INPUT_LENGTH);
+            for (int i = 0; i < length; i++) {
+                char character = input.charAt(i);
+                if (character == '"' || character == '\\') {
+                    quoted.append('\\').append(character);
+                } else if (character == '\n') {
+                    quoted.append("\\n");
+                } else if (character == '\r') {
+                    quoted.append("\\r");
+                } else {
+                    quoted.append(character);
+                }
+            }
+            quoted.append('"');
+            if (input.length() > length) {
+                quoted.append(" (cut from ").append(input.length()).append(" characters)");
+            }
+            return quoted.toString();
+        }
+    }
+}
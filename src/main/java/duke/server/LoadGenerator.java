@@ -0,0 +1,182 @@
+package duke.server;
+
+import duke.metrics.LatencyHistogram;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * A client which sends commands to a Duke Server from several connections at once, then reports the throughput
+ * and the latency of the commands.
+ *
+ * <p>Each connection sends the same mix of commands: adding a todo, searching for it, and listing the first page
+ * of the TaskList. The connections can be spread over several lists, named {@code LoadTest1}, {@code LoadTest2}
+ * and so on, to measure commands for different lists running in parallel. Otherwise they all use the list the
+ * Server was started with, which should then be a save file used only for measuring, since the todos added are
+ * left in the lists.</p>
+ */
+public class LoadGenerator {
+    private static final int DEFAULT_CLIENT_COUNT = 8;
+    private static final int DEFAULT_COMMANDS_PER_CLIENT = 1000;
+    private static final String LIST_NAME_PREFIX = "LoadTest";
+
+    /**
+     * Sends commands to a Duke Server on this machine and prints the results.
+     *
+     * @param args The port of the Server, the number of connections, the number of commands sent over each
+     *             connection, and the number of lists to spread the connections over, each of which can be left
+     *             out to use the default
+     * @throws InterruptedException when interrupted while waiting for the connections to finish
+     */
+    public static void main(String[] args) throws InterruptedException {
+        int port = (args.length > 0) ? Integer.parseInt(args[0]) : Server.DEFAULT_PORT;
+        int clientCount = (args.length > 1) ? Integer.parseInt(args[1]) : DEFAULT_CLIENT_COUNT;
+        int commandsPerClient = (args.length > 2) ? Integer.parseInt(args[2]) : DEFAULT_COMMANDS_PER_CLIENT;
+        int listCount = (args.length > 3) ? Integer.parseInt(args[3]) : 0;
+
+        long[][] latencies = new long[clientCount][];
+        List<Thread> clients = new ArrayList<Thread>(clientCount);
+        CountDownLatch ready = new CountDownLatch(clientCount);
+        CountDownLatch start = new CountDownLatch(1);
+        for (int i = 0; i < clientCount; i++) {
+            int client = i;
+            Thread thread = new Thread(() -> {
+                // the client is counted as ready exactly once, whether it connects or fails
+                boolean isCountedReady = false;
+                try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), port);
+                     BufferedReader in = new BufferedReader(
+                             new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+                     Writer out = new BufferedWriter(
+                             new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8))) {
+                    if (listCount > 0) {
+                        send("use " + LIST_NAME_PREFIX + (client % listCount + 1), in, out);
+                    }
+                    ready.countDown();
+                    isCountedReady = true;
+                    start.await();
+                    latencies[client] = sendCommands(client, commandsPerClient, in, out);
+                } catch (IOException | InterruptedException exception) {
+                    System.err.println("Client " + client + " failed: " + exception.getMessage());
+                } finally {
+                    if (!isCountedReady) {
+                        ready.countDown();
+                    }
+                }
+            }, "duke-load-" + client);
+            clients.add(thread);
+            thread.start();
+        }
+
+        ready.await();
+        long startTime = System.nanoTime();
+        start.countDown();
+        for (Thread client : clients) {
+            client.join();
+        }
+        long elapsedTime = System.nanoTime() - startTime;
+
+        printResults(latencies, elapsedTime);
+    }
+
+    /**
+     * Helper method to send the commands of one client over its connection, returning the latency of each
+     * command in nanoseconds.
+     */
+    private static long[] sendCommands(int client, int commandCount, BufferedReader in, Writer out)
+            throws IOException {
+        long[] latencies = new long[commandCount];
+        for (int i = 0; i < commandCount; i++) {
+            String command;
+            switch (i % 3) {
+            case 0:
+                command = "todo load c" + client + "n" + i;
+                break;
+            case 1:
+                command = "find c" + client + "n" + (i - 1);
+                break;
+            default:
+                command = "list /page 1 /size 10";
+                break;
+            }
+
+            long sentTime = System.nanoTime();
+            send(command, in, out);
+            latencies[i] = System.nanoTime() - sentTime;
+        }
+        send("bye", in, out);
+        return latencies;
+    }
+
+    /**
+     * Helper method to send one command, and wait for its framed Response.
+     */
+    private static void send(String command, BufferedReader in, Writer out) throws IOException {
+        out.write(command);
+        out.write('\n');
+        out.flush();
+        readFrame(in);
+    }
+
+    /**
+     * Helper method to read one framed Response.
+     */
+    private static void readFrame(BufferedReader in) throws IOException {
+        String header = in.readLine();
+        if (header == null) {
+            throw new IOException("The server closed the connection");
+        }
+        int separator = header.indexOf(' ');
+        int lineCount = Integer.parseInt(header.substring(separator + 1));
+        for (int i = 0; i < lineCount; i++) {
+            in.readLine();
+        }
+    }
+
+    /**
+     * Helper method to print the throughput, and the percentiles of the latencies, of the commands sent.
+     */
+    private static void printResults(long[][] latencies, long elapsedTime) {
+        int commandCount = 0;
+        for (long[] clientLatencies : latencies) {
+            commandCount += (clientLatencies == null) ? 0 : clientLatencies.length;
+        }
+        long[] allLatencies = new long[commandCount];
+        int copied = 0;
+        for (long[] clientLatencies : latencies) {
+            if (clientLatencies != null) {
+                System.arraycopy(clientLatencies, 0, allLatencies, copied, clientLatencies.length);
+                copied += clientLatencies.length;
+            }
+        }
+        if (commandCount == 0) {
+            System.out.println("No commands were answered.");
+            return;
+        }
+        Arrays.sort(allLatencies);
+
+        double seconds = elapsedTime / 1e9;
+        System.out.printf("%d commands over %d connection(s) in %.2f s: %.0f commands/s%n",
+                commandCount, latencies.length, seconds, commandCount / seconds);
+        System.out.printf("latency p50 %.3f ms, p99 %.3f ms, p99.9 %.3f ms, max %.3f ms%n",
+                percentile(allLatencies, 0.50), percentile(allLatencies, 0.99),
+                percentile(allLatencies, 0.999), allLatencies[commandCount - 1] / 1e6);
+    }
+
+    /**
+     * Helper method to return the given percentile of the sorted latencies, in milliseconds.
+     */
+    private static double percentile(long[] sortedLatencies, double fraction) {
+        return LatencyHistogram.getPercentile(sortedLatencies, fraction) / 1e6;
+    }
+}
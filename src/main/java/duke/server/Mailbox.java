@@ -0,0 +1,85 @@
+package duke.server;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * An Executor which runs the tasks given to it one at a time, in the order they were given, on the threads of
+ * a shared pool of workers.
+ *
+ * <p>A Mailbox owns no thread of its own. When tasks are waiting, it schedules itself on a worker, which runs a
+ * batch of them before letting other Mailboxes have the worker. Tasks of the same Mailbox therefore never run at
+ * the same time, and each task sees everything done by the tasks before it, while tasks of different Mailboxes
+ * run in parallel on different workers.</p>
+ */
+final class Mailbox implements Executor {
+    // the maximum number of tasks run each time the Mailbox is given a worker
+    private static final int BATCH_SIZE = 64;
+
+    private final Executor workers;
+    private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<Runnable>();
+    // true while the Mailbox is waiting for, or running on, a worker
+    private final AtomicBoolean isScheduled = new AtomicBoolean();
+
+    /**
+     * Constructs an empty Mailbox, which runs its tasks on the given workers.
+     *
+     * @param workers The Executor shared by all Mailboxes
+     */
+    Mailbox(Executor workers) {
+        assert workers != null;
+        this.workers = workers;
+    }
+
+    /**
+     * Adds the given task to the end of the Mailbox, to run after the tasks already in it.
+     *
+     * @param task The task to run
+     */
+    @Override
+    public void execute(Runnable task) {
+        assert task != null;
+        tasks.add(task);
+        schedule();
+    }
+
+    /**
+     * Returns true if the Mailbox has no tasks waiting or running, false otherwise.
+     *
+     * @return True if the Mailbox is idle, false otherwise
+     */
+    boolean isIdle() {
+        return !isScheduled.get() && tasks.isEmpty();
+    }
+
+    private void schedule() {
+        if (isScheduled.compareAndSet(false, true)) {
+            workers.execute(this::runBatch);
+        }
+    }
+
+    private void runBatch() {
+        try {
+            for (int i = 0; i < BATCH_SIZE; i++) {
+                Runnable task = tasks.poll();
+                if (task == null) {
+                    break;
+                }
+                try {
+                    task.run();
+                } catch (RuntimeException exception) {
+                    // a failed task does not stop the tasks after it
+                    System.err.println(exception.getMessage());
+                }
+            }
+        } finally {
+            isScheduled.set(false);
+        }
+        // tasks may have been added after the last poll, or left over from a full batch
+        if (!tasks.isEmpty()) {
+            schedule();
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package duke.server;
+
+import duke.command.Command;
+import duke.command.Parser;
+import duke.command.Type;
+import duke.error.ErrorCode;
+import duke.error.Outcome;
+import duke.metrics.Metrics;
+import duke.ui.Duke;
+import duke.ui.Response;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.lang.reflect.Method;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Launcher for Duke as a server, which lets several programs on the same machine share TaskLists.
+ *
+ * <p>The server listens on the loopback address only. Each client sends commands as lines of text, as they
+ * would be typed into Duke, and receives a framed Response for each command, in order. A frame is a header line
+ * holding a status and the number of lines of the Response, followed by those lines:</p>
+ * <pre>
+ * OK 2
+ * Got it! I've marked this task as done:
+ * [T][✓] walk the dog
+ * </pre>
+ * <p>The status is {@code OK} for a successful command, or the name of the ErrorCode otherwise. Commands go to
+ * the list named when the server was started, until the client sends {@code use LIST_NAME} to switch to the list
+ * in another save file. Lists are kept by a TaskListEngine, so clients using the same list see each other's
+ * changes, and commands for different lists run in parallel. {@code bye} only ends the connection of the client
+ * sending it.</p>
+ *
+ * <p>Each connection is served by its own thread. Virtual threads are used when the JVM provides them, so that
+ * idle connections cost almost nothing, and threads from a pool otherwise.</p>
+ */
+public class Server {
+    public static int DEFAULT_PORT = 4242;
+    static final String OK_STATUS = "OK";
+    private static final String USE_COMMAND_WORD = "use";
+    private static final String GOODBYE = "GoodBye! Hope to see you again!";
+
+    private final TaskListEngine engine;
+    private final String defaultListName;
+    private final ServerSocket serverSocket;
+    private final ExecutorService connections;
+
+    /**
+     * Constructs a Server which serves the lists of the given TaskListEngine to the clients connecting to the
+     * given socket.
+     *
+     * @param engine The TaskListEngine keeping the lists
+     * @param defaultListName The name of the list commands go to until a client chooses another
+     * @param serverSocket The socket clients connect to
+     */
+    Server(TaskListEngine engine, String defaultListName, ServerSocket serverSocket) {
+        assert engine != null;
+        assert defaultListName != null;
+        assert serverSocket != null;
+        this.engine = engine;
+        this.defaultListName = defaultListName;
+        this.serverSocket = serverSocket;
+        this.connections = newConnectionExecutor();
+    }
+
+    /**
+     * Runs Duke as a server until the process is stopped.
+     *
+     * @param args The port to listen on, if not the default one, followed by the name of the save file of the
+     *             list used until a client chooses another, if not the default one
+     * @throws IOException when the port cannot be listened on
+     */
+    public static void main(String[] args) throws IOException {
+        int port = (args.length > 0) ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+        String saveFileName = (args.length > 1) ? args[1] : Duke.DEFAULT_SAVE_FILE_NAME;
+
+        ServerSocket serverSocket = new ServerSocket(port, 50, InetAddress.getLoopbackAddress());
+        System.out.println("Duke is listening on " + serverSocket.getLocalSocketAddress());
+        Metrics.registerMBean();
+        new Server(new TaskListEngine(), saveFileName, serverSocket).serve();
+    }
+
+    /**
+     * Accepts connections until the socket is closed, serving each on its own thread.
+     *
+     * @throws IOException when a connection cannot be accepted
+     */
+    void serve() throws IOException {
+        while (!serverSocket.isClosed()) {
+            Socket socket = serverSocket.accept();
+            connections.execute(() -> handle(socket));
+        }
+    }
+
+    /**
+     * Helper method to answer the commands sent over the given connection until the client says bye or
+     * disconnects.
+     */
+    private void handle(Socket socket) {
+        try (socket;
+             BufferedReader in = new BufferedReader(
+                     new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+             Writer out = new BufferedWriter(
+                     new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8))) {
+            // the text of each Response is rendered into the same buffer, to count its lines before sending it
+            StringBuilder text = new StringBuilder();
+            String listName = defaultListName;
+            String input = in.readLine();
+            while (input != null) {
+                text.setLength(0);
+                if (isExit(input)) {
+                    writeFrame(OK_STATUS, text.append(GOODBYE), out);
+                    return;
+                }
+                String usedListName = getUsedListName(input);
+                if (usedListName != null) {
+                    listName = usedListName;
+                    writeFrame(OK_STATUS, text.append("Got it! Your commands will now go to: ").append(listName), out);
+                    input = in.readLine();
+                    continue;
+                }
+
+                Response response;
+                try {
+                    response = engine.submit(listName, input).join();
+                } catch (CompletionException exception) {
+                    // a command which failed unexpectedly only fails for the client which sent it
+                    writeFrame(ErrorCode.INTERNAL.name(), text.append("Sorry! That command failed: ")
+                            .append(exception.getCause()), out);
+                    input = in.readLine();
+                    continue;
+                }
+                response.renderTo(text);
+                writeFrame(response.wasCausedByError() ? response.getErrorCode().name() : OK_STATUS, text, out);
+                input = in.readLine();
+            }
+        } catch (IOException exception) {
+            // the client disconnected, which only ends its own connection
+        }
+    }
+
+    /**
+     * Helper method to tell whether the given input asks to exit, which would stop Duke for every client if it
+     * were passed on.
+     */
+    private static boolean isExit(String input) {
+        Outcome<Command> command = Parser.tryParseAsCommand(input);
+        return command.isSuccess() && command.getValue().getType() == Type.COMMAND_EXIT;
+    }
+
+    /**
+     * Helper method to return the name of the list chosen by the given input, if it is a use command.
+     */
+    private static String getUsedListName(String input) {
+        String trimmedInput = input.trim();
+        if (!trimmedInput.startsWith(USE_COMMAND_WORD + " ")) {
+            return null;
+        }
+        String listName = trimmedInput.substring(USE_COMMAND_WORD.length()).trim();
+        return listName.isEmpty() ? null : listName;
+    }
+
+    /**
+     * Helper method to write the given text as a frame with the given status, and send it straight away.
+     */
+    private static void writeFrame(String status, CharSequence text, Writer out) throws IOException {
+        int lineCount = 1;
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) == '\n') {
+                lineCount++;
+            }
+        }
+        out.append(status).append(' ').append(Integer.toString(lineCount)).append('\n');
+        out.append(text).append('\n');
+        out.flush();
+    }
+
+    /**
+     * Helper method to create the executor running the connections, on virtual threads if the JVM provides them.
+     */
+    private static ExecutorService newConnectionExecutor() {
+        try {
+            // looked up by reflection, since virtual threads are only provided from Java 21
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (ReflectiveOperationException exception) {
+            return Executors.newCachedThreadPool(runnable -> {
+                Thread thread = new Thread(runnable, "duke-connection");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+}
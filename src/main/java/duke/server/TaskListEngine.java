@@ -0,0 +1,194 @@
+package duke.server;
+
+import duke.command.Command;
+import duke.command.Parser;
+import duke.command.Type;
+import duke.error.ErrorCode;
+import duke.error.Outcome;
+import duke.ui.Duke;
+import duke.ui.Response;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps many named TaskLists active at once, each loaded from the save file with its name, and answers the
+ * commands given for each of them.
+ *
+ * <p>Each active list is owned by its own Duke and Mailbox. The commands for a list are run by its Mailbox one
+ * at a time, in the order they were submitted, so a Duke is never used by two threads at once. The Mailboxes of
+ * different lists share a pool of workers with one thread for each processor, so commands for different lists
+ * run in parallel.</p>
+ *
+ * <p>A list which has not been given a command for the idle timeout is dropped from memory, and loaded again
+ * from its save file when it is next needed. Duke saves each change as it is made, so nothing is lost.</p>
+ *
+ * <p>Transactions and the history of changes belong to a list, not to whoever gave the command, so one client
+ * could otherwise commit, roll back or undo the changes of another, and a transaction left open by a client which
+ * went away would keep the list from being saved. Those commands are therefore refused, along with loading and
+ * exiting.</p>
+ */
+public class TaskListEngine {
+    public static long DEFAULT_IDLE_TIMEOUT_MILLIS = TimeUnit.MINUTES.toMillis(5);
+
+    private final ConcurrentHashMap<String, ListOwner> owners = new ConcurrentHashMap<String, ListOwner>();
+    private final ExecutorService workers;
+    private final ScheduledExecutorService evictor;
+    private final long idleTimeout;
+
+    /**
+     * Constructs a TaskListEngine which drops lists from memory after the default idle timeout.
+     */
+    public TaskListEngine() {
+        this(DEFAULT_IDLE_TIMEOUT_MILLIS);
+    }
+
+    /**
+     * Constructs a TaskListEngine which drops lists from memory after they have been idle for the given time.
+     *
+     * @param idleTimeoutMillis The time in milliseconds after which an idle list is dropped from memory
+     */
+    public TaskListEngine(long idleTimeoutMillis) {
+        assert idleTimeoutMillis > 0;
+        idleTimeout = TimeUnit.MILLISECONDS.toNanos(idleTimeoutMillis);
+        workers = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(), daemonThreads("duke-list"));
+        evictor = Executors.newSingleThreadScheduledExecutor(daemonThreads("duke-list-evictor"));
+        // checking twice in each timeout drops a list at most half a timeout late
+        long checkInterval = Math.max(idleTimeoutMillis / 2, 1);
+        evictor.scheduleWithFixedDelay(this::evictIdleLists, checkInterval, checkInterval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Submits the given user input as a command for the list with the given name, loading the list first if it
+     * is not active.
+     *
+     * <p>Commands for the same list are answered in the order they are submitted. Loading another save file and
+     * exiting are not supported, since they would change which list the name refers to, and neither are
+     * transactions, undo and redo, since they would act on the changes of everyone using the list.</p>
+     *
+     * @param listName The name of the list, which is also the name of its save file
+     * @param input The user input to give to the Duke owning the list
+     * @return A CompletableFuture completed with the Response to the input, once it has been answered
+     */
+    public CompletableFuture<Response> submit(String listName, String input) {
+        assert listName != null;
+        assert input != null;
+        CompletableFuture<Response> response = new CompletableFuture<Response>();
+        // the command is queued while the list is locked in the map, so the list cannot be dropped in between
+        owners.compute(listName, (name, owner) -> {
+            ListOwner current = (owner == null) ? new ListOwner(name) : owner;
+            current.lastUsedTime = System.nanoTime();
+            current.mailbox.execute(() -> {
+                try {
+                    response.complete(current.respond(input));
+                } catch (RuntimeException | Error exception) {
+                    response.completeExceptionally(exception);
+                }
+            });
+            return current;
+        });
+        return response;
+    }
+
+    /**
+     * Returns the number of lists which are currently in memory.
+     *
+     * @return The number of active lists
+     */
+    public int getActiveListCount() {
+        return owners.size();
+    }
+
+    /**
+     * Drops from memory the lists which have been idle for longer than the idle timeout and have no commands
+     * waiting.
+     */
+    void evictIdleLists() {
+        long now = System.nanoTime();
+        for (String listName : owners.keySet()) {
+            owners.computeIfPresent(listName, (name, owner) -> owner.isEvictable(now) ? null : owner);
+        }
+    }
+
+    /**
+     * Stops the workers once the commands already submitted have been answered.
+     */
+    public void shutdown() {
+        evictor.shutdownNow();
+        workers.shutdown();
+    }
+
+    /**
+     * Helper method to tell whether commands of the given Type act on the transaction or history of a list, which
+     * are shared by every client using it.
+     */
+    private static boolean isSharedHistoryCommand(Type type) {
+        switch (type) {
+        case COMMAND_BEGIN_TRANSACTION:
+        case COMMAND_COMMIT_TRANSACTION:
+        case COMMAND_ROLLBACK_TRANSACTION:
+        case COMMAND_UNDO:
+        case COMMAND_REDO:
+            return true;
+        default:
+            return false;
+        }
+    }
+
+    private static ThreadFactory daemonThreads(String name) {
+        return runnable -> {
+            Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * An active list, with the Duke which owns it and the Mailbox which runs its commands.
+     */
+    private class ListOwner {
+        private final Duke duke = new Duke();
+        private final Mailbox mailbox = new Mailbox(workers);
+        // the Response from loading the list, which is set by the first task of the Mailbox
+        private Response loaded;
+        private volatile long lastUsedTime;
+
+        private ListOwner(String listName) {
+            mailbox.execute(() -> {
+                duke.greet();
+                loaded = duke.getResponse("load " + listName);
+            });
+        }
+
+        /**
+         * Returns the Response to the given input, which is only called by the tasks of the Mailbox.
+         */
+        private Response respond(String input) {
+            if (loaded.wasCausedByError()) {
+                return loaded;
+            }
+            Outcome<Command> command = Parser.tryParseAsCommand(input);
+            if (command.isSuccess()) {
+                Type type = command.getValue().getType();
+                if (type == Type.COMMAND_LOAD_FILE || type == Type.COMMAND_EXIT) {
+                    return Response.fromError(
+                            ErrorCode.UNSUPPORTED, "This list cannot be swapped for another or closed here!", true);
+                }
+                if (isSharedHistoryCommand(type)) {
+                    return Response.fromError(ErrorCode.UNSUPPORTED,
+                            "Transactions, undo and redo are not available on a list shared with others!", true);
+                }
+            }
+            return duke.getResponse(input);
+        }
+
+        private boolean isEvictable(long now) {
+            return now - lastUsedTime > idleTimeout && mailbox.isIdle();
+        }
+    }
+}
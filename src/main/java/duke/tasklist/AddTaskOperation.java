@@ -0,0 +1,34 @@
+package duke.tasklist;
+
+/**
+ * A TaskListOperation which records a Task being inserted into a TaskList.
+ */
+class AddTaskOperation extends TaskListOperation {
+    // the position the Task was inserted at
+    private final int index;
+    // the Task which was inserted
+    private final Task task;
+
+    /**
+     * Constructs the TaskListOperation which records a Task being inserted into a TaskList.
+     *
+     * @param index The position in the TaskList the Task was inserted at, starting from 0
+     * @param task The Task which was inserted
+     */
+    AddTaskOperation(int index, Task task) {
+        assert index >= 0;
+        assert task != null;
+        this.index = index;
+        this.task = task;
+    }
+
+    @Override
+    void apply(TaskList tasks) {
+        tasks.insert(index, task);
+    }
+
+    @Override
+    void revert(TaskList tasks) {
+        tasks.remove(index);
+    }
+}
@@ -0,0 +1,35 @@
+package duke.tasklist;
+
+/**
+ * A TaskListOperation which records a Task in a TaskList being marked as completed.
+ */
+class CompleteTaskOperation extends TaskListOperation {
+    // the position of the Task which was marked as completed
+    private final int index;
+    // the completion status of the Task before it was marked as completed
+    private final boolean wasComplete;
+
+    /**
+     * Constructs the TaskListOperation which records a Task in a TaskList being marked as completed.
+     *
+     * @param index The position of the Task in the TaskList, starting from 0
+     * @param wasComplete The completion status of the Task before it was marked as completed
+     */
+    CompleteTaskOperation(int index, boolean wasComplete) {
+        assert index >= 0;
+        this.index = index;
+        this.wasComplete = wasComplete;
+    }
+
+    @Override
+    void apply(TaskList tasks) {
+        tasks.setComplete(index, true);
+    }
+
+    @Override
+    void revert(TaskList tasks) {
+        if (!wasComplete) {
+            tasks.setComplete(index, false);
+        }
+    }
+}
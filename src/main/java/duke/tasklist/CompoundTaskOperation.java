@@ -0,0 +1,38 @@
+package duke.tasklist;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A TaskListOperation which records several changes made to a TaskList that should be applied and
+ * reverted together, such as the changes committed in a transaction.
+ */
+class CompoundTaskOperation extends TaskListOperation {
+    // the changes, in the order they were made
+    private final ArrayList<TaskListOperation> operations;
+
+    /**
+     * Constructs the TaskListOperation which records several changes made to a TaskList.
+     *
+     * @param operations The changes, in the order they were made
+     */
+    CompoundTaskOperation(List<TaskListOperation> operations) {
+        assert operations != null;
+        this.operations = new ArrayList<TaskListOperation>(operations);
+    }
+
+    @Override
+    void apply(TaskList tasks) {
+        for (TaskListOperation operation : operations) {
+            operation.apply(tasks);
+        }
+    }
+
+    @Override
+    void revert(TaskList tasks) {
+        // revert the most recent change first
+        for (int i = operations.size() - 1; i >= 0; i--) {
+            operations.get(i).revert(tasks);
+        }
+    }
+}
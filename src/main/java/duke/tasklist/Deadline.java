@@ -1,8 +1,9 @@
 package duke.tasklist;
 
-import duke.error.DukeException;
 import duke.command.Parser;
 
+import java.time.LocalDateTime;
+
 /**
  * A Task in a TaskList that represents a Deadline with a description and a time/date which the
  * Deadline Task is expected to be completed by.
@@ -20,11 +21,21 @@ public class Deadline extends Task {
         super(description);
         assert description != null;
         assert time != null : "Deadline time cannot be null";
-        try {
-            this.time = Parser.parseDateTime(time);
-        } catch (DukeException dukeException) {
-            this.time = time;
-        }
+        LocalDateTime dateTime = Parser.parseLocalDateTime(time);
+        this.time = (dateTime != null) ? Parser.formatDateTime(dateTime) : time;
+    }
+
+    /**
+     * Constructs the Deadline Task, with a time which has already been parsed.
+     *
+     * @param description The description of the Deadline Task
+     * @param time        The time/date that the Deadline Task needs to be completed by
+     */
+    public Deadline(String description, LocalDateTime time) {
+        super(description);
+        assert description != null;
+        assert time != null : "Deadline time cannot be null";
+        this.time = Parser.formatDateTime(time);
     }
 
     /**
@@ -38,11 +49,8 @@ public class Deadline extends Task {
         super(description);
         assert description != null;
         assert time != null : "Deadline time cannot be null";
-        try {
-            this.time = Parser.parseDateTime(time);
-        } catch (DukeException dukeException) {
-            this.time = time;
-        }
+        LocalDateTime dateTime = Parser.parseLocalDateTime(time);
+        this.time = (dateTime != null) ? Parser.formatDateTime(dateTime) : time;
         taskCompletionStatus = isComplete;
     }
 
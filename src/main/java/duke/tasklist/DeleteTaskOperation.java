@@ -0,0 +1,34 @@
+package duke.tasklist;
+
+/**
+ * A TaskListOperation which records a Task being removed from a TaskList.
+ */
+class DeleteTaskOperation extends TaskListOperation {
+    // the position the Task was removed from
+    private final int index;
+    // the Task which was removed
+    private final Task task;
+
+    /**
+     * Constructs the TaskListOperation which records a Task being removed from a TaskList.
+     *
+     * @param index The position in the TaskList the Task was removed from, starting from 0
+     * @param task The Task which was removed
+     */
+    DeleteTaskOperation(int index, Task task) {
+        assert index >= 0;
+        assert task != null;
+        this.index = index;
+        this.task = task;
+    }
+
+    @Override
+    void apply(TaskList tasks) {
+        tasks.remove(index);
+    }
+
+    @Override
+    void revert(TaskList tasks) {
+        tasks.insert(index, task);
+    }
+}
@@ -0,0 +1,232 @@
+package duke.tasklist;
+
+import duke.util.FuzzyMatcher;
+import duke.util.Match;
+
+import java.util.Arrays;
+
+/**
+ * The words of the descriptions of Tasks, with their case folded, stored one after the other in a single char
+ * array which is only ever appended to.
+ *
+ * <p>Each word is followed by WORD_SEPARATOR, which marks the word boundaries, and the words of each Task are
+ * written when it is added to a TaskList, in the range of the arena recorded for it. Searching for a keyword then
+ * walks the range from start to end, comparing characters which are next to each other in memory, without
+ * splitting descriptions, changing their case or allocating anything for each Task.</p>
+ *
+ * <p>An arena is shared by the snapshots of the chunk of Tasks using it. Characters are only written past the end
+ * of those already written, which no snapshot reads, so the ranges of the Tasks of every snapshot stay unchanged.
+ * The words of a Task which is removed are left in place, unused, until the chunk is copied into a new arena with
+ * only the words of the Tasks it still holds.</p>
+ */
+final class DescriptionArena {
+    // the character following each word, which cannot occur within a word since words are split at whitespace
+    static final char WORD_SEPARATOR = ' ';
+
+    private final char[] words;
+    // the number of characters written, only changed while holding the lock of the TaskList
+    private int filled;
+
+    /**
+     * Constructs an empty arena, with room for the given number of characters.
+     *
+     * @param capacity The number of characters the arena can hold
+     */
+    DescriptionArena(int capacity) {
+        words = new char[capacity];
+    }
+
+    /**
+     * Returns true if the folded words of the given description fit in the room left in the arena.
+     *
+     * @param description The description of a Task
+     * @return True if the words of the description fit, false otherwise
+     */
+    boolean hasRoomFor(String description) {
+        return words.length - filled >= getMaxFoldedLength(description);
+    }
+
+    /**
+     * Returns the most characters the folded words of the given description can take up in an arena.
+     *
+     * @param description The description of a Task
+     * @return The most characters its folded words can take up
+     */
+    static int getMaxFoldedLength(String description) {
+        return description.length() + 1;
+    }
+
+    /**
+     * Returns the number of characters written to the arena.
+     *
+     * @return The number of characters written
+     */
+    int getFilled() {
+        return filled;
+    }
+
+    /**
+     * Appends the words of the given description, split at whitespace, with their case folded and each followed by
+     * WORD_SEPARATOR.
+     *
+     * <p>A description starting with whitespace starts with an empty word, as when splitting it with
+     * String.split.</p>
+     *
+     * @param description The description of a Task, which must fit in the room left in the arena
+     * @return The end of the range of the words written, which start where the arena was filled up to before
+     */
+    int append(String description) {
+        assert hasRoomFor(description);
+        int start = filled;
+        boolean isInWord = false;
+        for (int i = 0; i < description.length(); i++) {
+            char character = description.charAt(i);
+            if (isSplitCharacter(character)) {
+                if (isInWord) {
+                    words[filled++] = WORD_SEPARATOR;
+                }
+                isInWord = false;
+            } else {
+                if (filled == start && i > 0) {
+                    // whitespace before the first word leaves an empty word in front of it
+                    words[filled++] = WORD_SEPARATOR;
+                }
+                words[filled++] = Match.foldCase(character);
+                isInWord = true;
+            }
+        }
+        if (isInWord || description.isEmpty()) {
+            words[filled++] = WORD_SEPARATOR;
+        }
+        return filled;
+    }
+
+    /**
+     * Appends the words in the given range of another arena.
+     *
+     * @param other The arena to copy the words from
+     * @param start The start of the range of the words
+     * @param end The end of the range of the words
+     * @return The end of the range of the words written, which start where the arena was filled up to before
+     */
+    int append(DescriptionArena other, int start, int end) {
+        assert words.length - filled >= end - start;
+        System.arraycopy(other.words, start, words, filled, end - start);
+        filled += end - start;
+        return filled;
+    }
+
+    /**
+     * Returns the given text with its case folded and each run of whitespace replaced by WORD_SEPARATOR, so that
+     * it can be found in the words of an arena.
+     *
+     * @param text The text to fold
+     * @return The folded text
+     */
+    static char[] foldText(String text) {
+        DescriptionArena arena = new DescriptionArena(getMaxFoldedLength(text));
+        int end = arena.append(text);
+        // the separator following the last word is only kept if the text ends with whitespace
+        boolean isSeparatorKept = !text.isEmpty() && isSplitCharacter(text.charAt(text.length() - 1));
+        return Arrays.copyOf(arena.words, isSeparatorKept ? end : Math.max(end - 1, 0));
+    }
+
+    /**
+     * Returns true if the words in the given range have a word equal to the given keyword, ignoring case.
+     *
+     * @param start The start of the range of the words of a Task
+     * @param end The end of the range of the words of a Task
+     * @param foldedKeyword The keyword, with its case folded
+     * @return True if there is a word equal to the keyword, false otherwise
+     */
+    boolean hasWord(int start, int end, char[] foldedKeyword) {
+        int wordStart = start;
+        while (wordStart < end) {
+            int wordEnd = findWordEnd(wordStart);
+            if (wordEnd - wordStart == foldedKeyword.length && isEqual(wordStart, foldedKeyword)) {
+                return true;
+            }
+            wordStart = wordEnd + 1;
+        }
+        return false;
+    }
+
+    /**
+     * Returns true if the words in the given range have a word matched by the given FuzzyMatcher.
+     *
+     * @param start The start of the range of the words of a Task
+     * @param end The end of the range of the words of a Task
+     * @param matcher The FuzzyMatcher holding the keyword, with its case folded
+     * @return True if there is a word matched by the FuzzyMatcher, false otherwise
+     */
+    boolean hasWordMatching(int start, int end, FuzzyMatcher matcher) {
+        int wordStart = start;
+        while (wordStart < end) {
+            int wordEnd = findWordEnd(wordStart);
+            if (matcher.matches(words, wordStart, wordEnd)) {
+                return true;
+            }
+            wordStart = wordEnd + 1;
+        }
+        return false;
+    }
+
+    /**
+     * Returns true if the words in the given range, without the separator following the last one, contain the
+     * given text.
+     *
+     * @param start The start of the range of the words of a Task
+     * @param end The end of the range of the words of a Task
+     * @param foldedText The text, folded by foldText
+     * @return True if the words contain the text, false otherwise
+     */
+    boolean contains(int start, int end, char[] foldedText) {
+        int last = end - 1 - foldedText.length;
+        for (int i = start; i <= last; i++) {
+            if (isEqual(i, foldedText)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private int findWordEnd(int wordStart) {
+        int wordEnd = wordStart;
+        while (words[wordEnd] != WORD_SEPARATOR) {
+            wordEnd++;
+        }
+        return wordEnd;
+    }
+
+    private boolean isEqual(int from, char[] folded) {
+        for (int i = 0; i < folded.length; i++) {
+            if (words[from + i] != folded[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Helper method to tell whether the character is whitespace, as matched by \s in a regular expression.
+     */
+    private static boolean isSplitCharacter(char character) {
+        return character == ' ' || character == '\t' || character == '\n' || character == '\u000B'
+                || character == '\f' || character == '\r';
+    }
+
+    /**
+     * A condition on the words of a Task in an arena, which searches test each Task with.
+     */
+    interface Condition {
+        /**
+         * Returns true if the words in the given range of the arena meet the condition.
+         *
+         * @param arena The arena holding the words
+         * @param start The start of the range of the words of a Task
+         * @param end The end of the range of the words of a Task
+         * @return True if the words meet the condition, false otherwise
+         */
+        boolean test(DescriptionArena arena, int start, int end);
+    }
+}
@@ -1,8 +1,9 @@
 package duke.tasklist;
 
-import duke.error.DukeException;
 import duke.command.Parser;
 
+import java.time.LocalDateTime;
+
 /**
  * A Task in a TaskList that represents an Event with a description and a time/date which the Event
  * Task occurs at.
@@ -20,11 +21,21 @@ public class Event extends Task {
         super(description);
         assert time != null : "Event time cannot be null";
         assert description != null;
-        try {
-            this.time = Parser.parseDateTime(time);
-        } catch (DukeException dukeException) {
-            this.time = time;
-        }
+        LocalDateTime dateTime = Parser.parseLocalDateTime(time);
+        this.time = (dateTime != null) ? Parser.formatDateTime(dateTime) : time;
+    }
+
+    /**
+     * Constructs the Event Task, with a time which has already been parsed.
+     *
+     * @param description The description of the Event Task
+     * @param time        The time/date that the Event Task occurs at
+     */
+    public Event(String description, LocalDateTime time) {
+        super(description);
+        assert description != null;
+        assert time != null : "Event time cannot be null";
+        this.time = Parser.formatDateTime(time);
     }
 
     /**
@@ -40,11 +51,8 @@ public class Event extends Task {
         assert time != null : "Event time cannot be null";
         assert description != null;
 
-        try {
-            this.time = Parser.parseDateTime(time);
-        } catch (DukeException dukeException) {
-            this.time = time;
-        }
+        LocalDateTime dateTime = Parser.parseLocalDateTime(time);
+        this.time = (dateTime != null) ? Parser.formatDateTime(dateTime) : time;
         taskCompletionStatus = isComplete;
     }
 
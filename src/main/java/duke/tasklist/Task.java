@@ -4,7 +4,8 @@ package duke.tasklist;
  * Abstract class representing a Task which can be added to a TaskList.
  */
 public abstract class Task {
-    boolean taskCompletionStatus;
+    // read without locking by threads searching a TaskList while another thread completes the Task
+    volatile boolean taskCompletionStatus;
     private String taskDescription;
 
     /**
@@ -29,6 +30,16 @@ public abstract class Task {
         return this;
     }
 
+    /**
+     * Sets the completion status of the Task to false (is not complete).
+     *
+     * @return This Task which has been marked as not completed
+     */
+    Task uncomplete() {
+        taskCompletionStatus = false;
+        return this;
+    }
+
     /**
      * Returns true if the Task has been completed, or false otherwise.
      *
@@ -1,22 +1,111 @@
 package duke.tasklist;
 
-import duke.command.DukeIncorrectParameterTypeException;
-import duke.error.DukeException;
+import duke.error.ErrorCode;
+import duke.error.Outcome;
+import duke.metrics.Metrics;
+import duke.metrics.SearchEvent;
+import duke.util.FuzzyMatcher;
 import duke.util.Match;
+import duke.util.PrefixTrie;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Supplier;
 
 /**
  * A list to contain Tasks.
+ *
+ * <p>A TaskList can be used by several threads at once. Changes are made while holding the lock of the TaskList,
+ * so they are carried out one at a time. Searches and listings instead read an immutable snapshot of the Tasks,
+ * without taking the lock, so they are never blocked by a change and never see one half-made. Each change makes
+ * a new snapshot sharing all but one chunk of the Tasks with the last, so that reading a page of the Tasks right
+ * after a change does not copy all of them.</p>
  */
 public class TaskList {
-    private ArrayList<Task> taskList;
+    private static final String NO_CORRESPONDING_TASK_MESSAGE =
+            "The following number does not correspond to a task in the list: \n";
+    private static final String TRANSACTION_IN_PROGRESS_MESSAGE =
+            "A transaction is already in progress!\nUse commit or rollback to end it first.";
+    private static final String NO_TRANSACTION_MESSAGE =
+            "There is no transaction in progress!\nUse begin to start one.";
+
+    // the largest distance between a keyword and a word which relaxed searches accept
+    private static final int RELAXED_SEARCH_DISTANCE = 3;
+
+    // the number of Tasks from which searches of new TaskLists are split over several threads
+    public static int DEFAULT_PARALLEL_SEARCH_THRESHOLD = 20_000;
+    // the number of Tasks searched by one thread at a time in a parallel search of a new TaskList
+    public static int DEFAULT_PARALLEL_SEARCH_CHUNK_SIZE = 4096;
+
+    // the Tasks in the TaskList, replaced with each change
+    private volatile TaskSnapshot tasks;
+    // the words used in the descriptions of the Tasks, in lower case, counted once for each use
+    private PrefixTrie vocabulary;
+    private ArrayList<TaskListListener> listeners;
+    // the last search made as the user types, which is only valid while the snapshot it searched is current
+    private volatile IncrementalSearch lastIncrementalSearch;
+    // the changes made since the current transaction began, or null if no transaction is in progress
+    private ArrayList<TaskListOperation> transactionLog;
+    // the changes which can be undone, most recent last
+    private ArrayDeque<TaskListOperation> undoHistory;
+    // the changes which were undone and can be redone, most recently undone last
+    private ArrayDeque<TaskListOperation> redoHistory;
+    // the maximum number of changes which can be undone
+    private int historyLimit;
+    // the number of Tasks from which searches are split over several threads
+    private volatile int parallelSearchThreshold;
+    // the number of Tasks searched by one thread at a time in a parallel search
+    private volatile int parallelSearchChunkSize;
 
     /**
-     * Constructs an empty TaskList.
+     * Constructs an empty TaskList, which does not keep a history of changes to undo.
      */
     public TaskList() {
-        taskList = new ArrayList<Task>();
+        tasks = TaskSnapshot.EMPTY;
+        vocabulary = new PrefixTrie();
+        listeners = new ArrayList<TaskListListener>();
+        transactionLog = null;
+        undoHistory = new ArrayDeque<TaskListOperation>();
+        redoHistory = new ArrayDeque<TaskListOperation>();
+        historyLimit = 0;
+        parallelSearchThreshold = DEFAULT_PARALLEL_SEARCH_THRESHOLD;
+        parallelSearchChunkSize = DEFAULT_PARALLEL_SEARCH_CHUNK_SIZE;
+    }
+
+    /**
+     * Sets the maximum number of changes to the TaskList which can be undone, discarding the oldest
+     * changes in the history if there are more than that.
+     *
+     * <p>Each change in the history only records the Tasks affected by it, so the memory used by the
+     * history does not grow with the size of the TaskList.</p>
+     *
+     * @param historyLimit The maximum number of changes which can be undone, or 0 to keep no history
+     */
+    public synchronized void setHistoryLimit(int historyLimit) {
+        assert historyLimit >= 0;
+        this.historyLimit = historyLimit;
+        while (undoHistory.size() > historyLimit) {
+            undoHistory.removeFirst();
+        }
+        while (redoHistory.size() > historyLimit) {
+            redoHistory.removeFirst();
+        }
+    }
+
+    /**
+     * Sets the number of Tasks from which searches of the TaskList are split over several threads, and the number
+     * of Tasks each thread searches at a time.
+     *
+     * @param threshold The number of Tasks from which searches are made in parallel
+     * @param chunkSize The number of Tasks searched by one thread at a time, which is at least 1
+     */
+    void setParallelSearch(int threshold, int chunkSize) {
+        assert chunkSize >= 1;
+        parallelSearchThreshold = threshold;
+        parallelSearchChunkSize = chunkSize;
     }
 
     /**
@@ -25,7 +114,7 @@ public class TaskList {
      * @return An ArrayList which contains the Tasks in the TaskList
      */
     public ArrayList<Task> list() {
-        return new ArrayList<Task>(taskList);
+        return new ArrayList<Task>(tasks);
     }
 
     /**
@@ -34,40 +123,44 @@ public class TaskList {
      * @return The number of Tasks in the TaskList
      */
     public int size() {
-        return taskList.size();
+        return tasks.size();
+    }
+
+    /**
+     * Returns an immutable snapshot of the Tasks in the TaskList, which does not change when the TaskList is
+     * changed afterwards.
+     *
+     * <p>The snapshot is shared until Tasks are added or removed, so callers reading several things about the
+     * Tasks, such as their number and a range of them, should read them all from the same snapshot.</p>
+     *
+     * @return An immutable List of the Tasks in the TaskList
+     */
+    public List<Task> snapshot() {
+        return tasks;
     }
 
     /**
      * Deletes the Task which number in the TaskList corresponds to the number provided, if any.
      *
      * @param id The number corresponding to the Task in the TaskList to be deleted
-     * @return The Task which was deleted from the TaskList, if the number corresponds
-     * @throws DukeException when an error occurs when trying to delete a Task from the TaskList
-     */
-    private Task delete(int id) throws DukeException {
-        assert id > 0;
-        try {
-            return taskList.remove(id - 1);
-        } catch (IndexOutOfBoundsException exception) {
+     * @return An Outcome with the Task which was deleted from the TaskList, if the number corresponds, or
+     *         with the error which occurred when trying to delete a Task from the TaskList
+     */
+    public synchronized Outcome<Task> delete(int id) {
+        if (id < 1 || id > tasks.size()) {
             // task id does not correspond to task in list
-            throw new DukeNoCorrespondingTaskException(id);
+            return noCorrespondingTask(id);
         }
+        Task task = remove(id - 1);
+        record(new DeleteTaskOperation(id - 1, task));
+        return Outcome.success(task);
     }
 
     /**
-     * Deletes the Task which number in the TaskList corresponds to the number provided, if any.
-     *
-     * @param id The number corresponding to the Task in the TaskList, as a String
-     * @return The Task which was deleted from the list, if the number corresponds.
-     * @throws DukeException when an error occurs when trying to delete the Task from the list
+     * Helper method to return the failed Outcome for a number which does not correspond to a Task in the TaskList.
      */
-    public Task delete(String id) throws DukeException {
-        assert id != null;
-        try {
-            return delete(Integer.parseInt(id));
-        } catch (NumberFormatException exception) {
-            throw new DukeIncorrectParameterTypeException("Integer", id);
-        }
+    private static Outcome<Task> noCorrespondingTask(int id) {
+        return Outcome.failure(ErrorCode.NO_CORRESPONDING_TASK, NO_CORRESPONDING_TASK_MESSAGE, Integer.toString(id));
     }
 
     /**
@@ -76,43 +169,289 @@ public class TaskList {
      * @param task The Task to be added to the TaskList
      * @return The Task which was added to the TaskList
      */
-    public Task add(Task task) {
+    public synchronized Task add(Task task) {
         assert task != null;
-        taskList.add(task);
+        insert(tasks.size(), task);
+        record(new AddTaskOperation(tasks.size() - 1, task));
+        return task;
+    }
+
+    /**
+     * Returns the Task at the given position in the TaskList.
+     *
+     * @param index The position of the Task, starting from 0
+     * @return The Task at the position
+     */
+    Task get(int index) {
+        return tasks.get(index);
+    }
+
+    /**
+     * Inserts the given Task at the given position in the TaskList, without recording the change.
+     *
+     * <p>This and the other methods making unrecorded changes are only called while holding the lock of the
+     * TaskList.</p>
+     *
+     * @param index The position to insert the Task at, starting from 0
+     * @param task The Task to insert
+     */
+    void insert(int index, Task task) {
+        assert Thread.holdsLock(this);
+        tasks = tasks.inserted(index, task);
+        for (String word : splitIntoWords(task)) {
+            vocabulary.add(word);
+        }
+        if (!listeners.isEmpty()) {
+            notifyListeners(TaskListChange.added(index, List.of(task)));
+        }
+    }
+
+    /**
+     * Removes the Task at the given position in the TaskList, without recording the change.
+     *
+     * @param index The position of the Task to remove, starting from 0
+     * @return The Task which was removed
+     */
+    Task remove(int index) {
+        assert Thread.holdsLock(this);
+        Task task = tasks.get(index);
+        tasks = tasks.removed(index);
+        for (String word : splitIntoWords(task)) {
+            vocabulary.remove(word);
+        }
+        if (!listeners.isEmpty()) {
+            notifyListeners(TaskListChange.removed(index, List.of(task)));
+        }
         return task;
     }
 
+    /**
+     * Sets the completion status of the Task at the given position in the TaskList, without recording the change.
+     *
+     * @param index The position of the Task, starting from 0
+     * @param isComplete The completion status to set
+     */
+    void setComplete(int index, boolean isComplete) {
+        assert Thread.holdsLock(this);
+        // the snapshot holds the same Task, so it is still current
+        Task task = tasks.get(index);
+        if (isComplete) {
+            task.complete();
+        } else {
+            task.uncomplete();
+        }
+        if (!listeners.isEmpty()) {
+            notifyListeners(TaskListChange.updated(index, task));
+        }
+    }
+
+    /**
+     * Adds a listener which is notified of each change made to the Tasks in the TaskList, including changes
+     * which are undone, redone or rolled back.
+     *
+     * @param listener The listener to notify
+     */
+    public synchronized void addListener(TaskListListener listener) {
+        assert listener != null;
+        listeners.add(listener);
+    }
+
+    /**
+     * Removes a listener added to the TaskList, so that it is no longer notified of changes.
+     *
+     * @param listener The listener to remove
+     */
+    public synchronized void removeListener(TaskListListener listener) {
+        listeners.remove(listener);
+    }
+
+    private void notifyListeners(TaskListChange change) {
+        for (TaskListListener listener : listeners) {
+            listener.onChange(change);
+        }
+    }
+
+    /**
+     * Helper method to split the description of a Task into the lower case words added to the vocabulary.
+     */
+    private static String[] splitIntoWords(Task task) {
+        String description = task.getDescription().trim().toLowerCase();
+        return description.isEmpty() ? new String[0] : description.split("\\s+");
+    }
+
+    /**
+     * Returns up to the given number of words used in the descriptions of the Tasks which start with the given
+     * prefix (not case-sensitive), with the words used most often first.
+     *
+     * <p>The words are kept in an index which is updated as Tasks are added and removed, so the time taken
+     * does not depend on the number of Tasks in the TaskList.</p>
+     *
+     * @param prefix The prefix the words should start with
+     * @param limit The maximum number of words to return
+     * @return A List of the words in lower case
+     */
+    public synchronized List<String> completeWord(String prefix, int limit) {
+        assert prefix != null;
+        return vocabulary.complete(prefix.toLowerCase(), limit);
+    }
+
 
     /**
      * Marks as completed the Task which corresponds to the number provided, if it exists.
      *
      * @param id The number corresponding to the task in the task list
-     * @return The Task which was marked as completed
-     * @throws DukeException when an error occurs when trying to mark the task as completed
+     * @return An Outcome with the Task which was marked as completed, or with the error which occurred when
+     *         trying to mark the task as completed
      */
-    private Task complete(int id) throws DukeException {
-        assert id > 0;
-        try {
-            return taskList.get(id - 1).complete();
-        } catch (IndexOutOfBoundsException exception) {
-            throw new DukeNoCorrespondingTaskException(id);
+    public synchronized Outcome<Task> complete(int id) {
+        if (id < 1 || id > tasks.size()) {
+            return noCorrespondingTask(id);
         }
+        Task task = tasks.get(id - 1);
+        record(new CompleteTaskOperation(id - 1, task.isComplete()));
+        setComplete(id - 1, true);
+        return Outcome.success(task);
     }
 
     /**
-     * Marks as completed the Task which corresponds to the number provided, if it exists.
+     * Returns true if a transaction is in progress on the TaskList, false otherwise.
+     *
+     * @return True if a transaction is in progress, false otherwise
+     */
+    public synchronized boolean isInTransaction() {
+        return transactionLog != null;
+    }
+
+    /**
+     * Returns a successful Outcome if a transaction is in progress on the TaskList, or a failed Outcome
+     * explaining that no transaction is in progress otherwise.
+     *
+     * @return A successful Outcome if a transaction is in progress, or a failed Outcome otherwise
+     */
+    public synchronized Outcome<Void> requireTransaction() {
+        if (!isInTransaction()) {
+            return Outcome.failure(ErrorCode.NO_TRANSACTION, NO_TRANSACTION_MESSAGE);
+        }
+        return Outcome.success();
+    }
+
+    /**
+     * Begins a transaction, after which changes made to the TaskList are recorded until the transaction
+     * is committed or rolled back.
+     *
+     * @return A successful Outcome, or a failed Outcome if a transaction is already in progress
+     */
+    public synchronized Outcome<Void> beginTransaction() {
+        if (isInTransaction()) {
+            return Outcome.failure(ErrorCode.TRANSACTION_IN_PROGRESS, TRANSACTION_IN_PROGRESS_MESSAGE);
+        }
+        transactionLog = new ArrayList<TaskListOperation>();
+        return Outcome.success();
+    }
+
+    /**
+     * Commits the transaction in progress, keeping all changes made since the transaction began.
+     *
+     * @return An Outcome with the number of changes made since the transaction began, or a failed Outcome if
+     *         no transaction is in progress
+     */
+    public synchronized Outcome<Integer> commitTransaction() {
+        if (!isInTransaction()) {
+            return Outcome.failure(ErrorCode.NO_TRANSACTION, NO_TRANSACTION_MESSAGE);
+        }
+        int changeCount = transactionLog.size();
+        if (changeCount > 0) {
+            // the whole transaction is undone as a single change
+            remember(new CompoundTaskOperation(transactionLog));
+        }
+        transactionLog = null;
+        return Outcome.success(changeCount);
+    }
+
+    /**
+     * Rolls back the transaction in progress, reverting all changes made since the transaction began.
+     *
+     * @return An Outcome with the number of changes which were reverted, or a failed Outcome if no
+     *         transaction is in progress
+     */
+    public synchronized Outcome<Integer> rollbackTransaction() {
+        if (!isInTransaction()) {
+            return Outcome.failure(ErrorCode.NO_TRANSACTION, NO_TRANSACTION_MESSAGE);
+        }
+        int changeCount = transactionLog.size();
+        // revert the most recent change first
+        for (int i = changeCount - 1; i >= 0; i--) {
+            transactionLog.get(i).revert(this);
+        }
+        transactionLog = null;
+        return Outcome.success(changeCount);
+    }
+
+    /**
+     * Undoes the most recent change made to the TaskList which has not already been undone.
+     *
+     * @return A successful Outcome, or a failed Outcome if a transaction is in progress, or there is no change
+     *         to undo
+     */
+    public synchronized Outcome<Void> undo() {
+        if (isInTransaction()) {
+            return Outcome.failure(ErrorCode.TRANSACTION_IN_PROGRESS, TRANSACTION_IN_PROGRESS_MESSAGE);
+        }
+        if (undoHistory.isEmpty()) {
+            return Outcome.failure(ErrorCode.NO_HISTORY, "There are no changes to undo!");
+        }
+        TaskListOperation operation = undoHistory.removeLast();
+        operation.revert(this);
+        redoHistory.addLast(operation);
+        return Outcome.success();
+    }
+
+    /**
+     * Redoes the most recent change made to the TaskList which was undone.
      *
-     * @param id The number corresponding to the Task in the TaskList, as a String
-     * @return The Task which was marked as completed
-     * @throws DukeException when an error occurs when trying to mark the Task as completed
+     * @return A successful Outcome, or a failed Outcome if a transaction is in progress, or there is no change
+     *         to redo
+     */
+    public synchronized Outcome<Void> redo() {
+        if (isInTransaction()) {
+            return Outcome.failure(ErrorCode.TRANSACTION_IN_PROGRESS, TRANSACTION_IN_PROGRESS_MESSAGE);
+        }
+        if (redoHistory.isEmpty()) {
+            return Outcome.failure(ErrorCode.NO_HISTORY, "There are no changes to redo!");
+        }
+        TaskListOperation operation = redoHistory.removeLast();
+        operation.apply(this);
+        undoHistory.addLast(operation);
+        return Outcome.success();
+    }
+
+    /**
+     * Helper method to record a change made to the TaskList, either in the transaction in progress,
+     * or in the history of changes which can be undone.
+     */
+    private void record(TaskListOperation operation) {
+        assert operation != null;
+        if (isInTransaction()) {
+            transactionLog.add(operation);
+        } else {
+            remember(operation);
+        }
+    }
+
+    /**
+     * Helper method to add a new change to the history of changes which can be undone, which discards
+     * the changes which can be redone.
      */
-    public Task complete(String id) throws DukeException {
-        assert id != null;
-        try {
-            return complete(Integer.parseInt(id));
-        } catch (NumberFormatException exception) {
-            throw new DukeIncorrectParameterTypeException("Integer", id);
+    private void remember(TaskListOperation operation) {
+        assert operation != null;
+        redoHistory.clear();
+        if (historyLimit == 0) {
+            return;
+        }
+        if (undoHistory.size() == historyLimit) {
+            undoHistory.removeFirst();
         }
+        undoHistory.addLast(operation);
     }
 
     /**
@@ -121,23 +460,42 @@ public class TaskList {
      *
      * @param keyword The keyword to search for in the TaskList
      * @return An ArrayList containing the Tasks which contain the matching Tasks
+     * @throws java.util.concurrent.CancellationException if the current thread is interrupted during the search
      */
     public ArrayList<Task> search(String keyword) {
         assert keyword != null;
-        //searches the string representation of the class
-        ArrayList<Task> results = new ArrayList<>();
-        for (Task task : this.taskList) {
-            for (String word : task.getDescription().split("\\s+")) {
+        char[] foldedKeyword = Match.foldCase(keyword);
+        return filter(() -> (arena, start, end) -> arena.hasWord(start, end, foldedKeyword), false);
+    }
 
-                if (!word.equalsIgnoreCase(keyword)) {
-                    continue;
-                }
+    /**
+     * Returns the Tasks with descriptions containing the query (not case-sensitive), in order, for searching
+     * as the user types.
+     *
+     * <p>If no Tasks were added or removed since the last query, and the query contains the last query, only the
+     * Tasks which matched the last query can match, so only those are searched again. Typing a longer query
+     * therefore searches fewer and fewer Tasks.</p>
+     *
+     * @param query The text to search for in the descriptions of the Tasks
+     * @return An unmodifiable List of the matching Tasks
+     * @throws java.util.concurrent.CancellationException if the current thread is interrupted during the search
+     */
+    public List<Task> searchIncrementally(String query) {
+        assert query != null;
+        char[] foldedQuery = DescriptionArena.foldText(query);
+        String foldedQueryText = new String(foldedQuery);
 
-                results.add(task);
-                break;
-            }
+        TaskSnapshot currentTasks = tasks;
+        int[] candidates = null;
+        IncrementalSearch last = lastIncrementalSearch;
+        if (last != null && last.tasks == currentTasks && foldedQueryText.contains(last.query)) {
+            candidates = last.positions;
         }
-        return results;
+
+        int[] positions = currentTasks.findPositions(candidates,
+                (arena, start, end) -> arena.contains(start, end, foldedQuery));
+        lastIncrementalSearch = new IncrementalSearch(currentTasks, foldedQueryText, positions);
+        return currentTasks.getAll(positions);
     }
 
     /**
@@ -146,19 +504,112 @@ public class TaskList {
      *
      * @param keyword The keyword to search for in the TaskList
      * @return An ArrayList containing the matching Tasks
+     * @throws java.util.concurrent.CancellationException if the current thread is interrupted during the search
      */
     public ArrayList<Task> relaxedSearch(String keyword) {
         assert keyword != null;
+        char[] foldedKeyword = Match.foldCase(keyword);
+        return filter(() -> {
+            // each thread searching needs its own FuzzyMatcher
+            FuzzyMatcher matcher = new FuzzyMatcher(foldedKeyword, RELAXED_SEARCH_DISTANCE);
+            return (arena, start, end) -> arena.hasWordMatching(start, end, matcher);
+        }, true);
+    }
 
-        ArrayList<Task> results = new ArrayList<>();
-        for (Task task : this.taskList) {
-            for (String word : task.getDescription().split("\\s+")) {
-                if (Match.matchFuzzyIgnoreCase(keyword, word, 3)) {
-                    results.add(task);
-                    break;
-                }
-            }
+    /**
+     * Returns the Tasks which match the given condition, in order.
+     *
+     * <p>The condition is given the range of the folded words of each Task in the DescriptionArena of its chunk,
+     * which were written when the Task was added, so searches read the snapshot as it is.</p>
+     *
+     * <p>TaskLists with at least parallelSearchThreshold Tasks are searched in parallel, by splitting the
+     * snapshot into chunks of parallelSearchChunkSize Tasks which are searched on the common ForkJoinPool, and
+     * joining the results of the chunks in order. Smaller TaskLists are searched on the calling thread, which is
+     * faster than handing the work over.</p>
+     *
+     * <p>The number of Tasks searched and found is recorded in Metrics.GLOBAL, and as a SearchEvent when a flight
+     * recording is running.</p>
+     *
+     * @param condition Creates the condition the words of the matching Tasks should meet, once for each thread
+     *                  searching
+     * @param isRelaxed True if the search is for words within a few edits of the keyword, false otherwise
+     * @return An ArrayList of the matching Tasks
+     * @throws java.util.concurrent.CancellationException if the current thread is interrupted during the search
+     */
+    private ArrayList<Task> filter(Supplier<DescriptionArena.Condition> condition, boolean isRelaxed) {
+        SearchEvent event = new SearchEvent();
+        event.begin();
+        TaskSnapshot currentTasks = tasks;
+        int size = currentTasks.size();
+        Thread caller = Thread.currentThread();
+        ArrayList<Task> results = (size < parallelSearchThreshold)
+                ? currentTasks.filter(0, size, condition.get(), caller)
+                : ForkJoinPool.commonPool().invoke(
+                        new FilterTask(currentTasks, 0, size, parallelSearchChunkSize, condition, caller));
+        Metrics.GLOBAL.recordSearch(size, results.size());
+        if (event.shouldCommit()) {
+            event.relaxed = isRelaxed;
+            event.listSize = size;
+            event.resultCount = results.size();
+            event.commit();
         }
         return results;
     }
+
+    /**
+     * A search of a range of positions in a snapshot, which splits itself in half until the range fits in a chunk.
+     */
+    private static class FilterTask extends RecursiveTask<ArrayList<Task>> {
+        private static final long serialVersionUID = 1L;
+
+        private final TaskSnapshot tasks;
+        private final int fromIndex;
+        private final int toIndex;
+        private final int chunkSize;
+        private final Supplier<DescriptionArena.Condition> condition;
+        private final Thread caller;
+
+        private FilterTask(TaskSnapshot tasks, int fromIndex, int toIndex, int chunkSize,
+                Supplier<DescriptionArena.Condition> condition, Thread caller) {
+            this.tasks = tasks;
+            this.fromIndex = fromIndex;
+            this.toIndex = toIndex;
+            this.chunkSize = chunkSize;
+            this.condition = condition;
+            this.caller = caller;
+        }
+
+        @Override
+        protected ArrayList<Task> compute() {
+            if (toIndex - fromIndex <= chunkSize) {
+                return tasks.filter(fromIndex, toIndex, condition.get(), caller);
+            }
+            int middle = (fromIndex + toIndex) >>> 1;
+            FilterTask firstHalf = new FilterTask(tasks, fromIndex, middle, chunkSize, condition, caller);
+            FilterTask secondHalf = new FilterTask(tasks, middle, toIndex, chunkSize, condition, caller);
+            firstHalf.fork();
+            ArrayList<Task> results = secondHalf.compute();
+            // the results of the first half come first, to keep the order of the TaskList
+            ArrayList<Task> firstResults = firstHalf.join();
+            firstResults.addAll(results);
+            return firstResults;
+        }
+    }
+
+    /**
+     * A query searched for as the user types, with the snapshot of the Tasks searched and the positions of the
+     * Tasks which matched.
+     */
+    private static class IncrementalSearch {
+        private final TaskSnapshot tasks;
+        // the query, folded as the words in the arenas are
+        private final String query;
+        private final int[] positions;
+
+        private IncrementalSearch(TaskSnapshot tasks, String query, int[] positions) {
+            this.tasks = tasks;
+            this.query = query;
+            this.positions = positions;
+        }
+    }
 }
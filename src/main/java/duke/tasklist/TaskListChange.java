@@ -0,0 +1,105 @@
+package duke.tasklist;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A change made to a range of positions in a TaskList, given to the TaskListListeners of the TaskList.
+ *
+ * <p>A change only describes the Tasks it affects, so that a view of the TaskList can be updated without
+ * displaying the whole TaskList again.</p>
+ */
+public final class TaskListChange {
+
+    /**
+     * The enumeration of the kinds of changes which can be made to a TaskList.
+     */
+    public enum Kind {
+        // Tasks were inserted at the range of positions
+        ADDED,
+        // Tasks were removed from the range of positions
+        REMOVED,
+        // the Tasks at the range of positions were modified
+        UPDATED
+    }
+
+    private final Kind kind;
+    private final int fromIndex;
+    private final List<Task> tasks;
+
+    private TaskListChange(Kind kind, int fromIndex, List<Task> tasks) {
+        assert kind != null;
+        assert fromIndex >= 0;
+        this.kind = kind;
+        this.fromIndex = fromIndex;
+        this.tasks = Collections.unmodifiableList(new ArrayList<Task>(tasks));
+    }
+
+    /**
+     * Returns the change made when the given Tasks are inserted into a TaskList.
+     *
+     * @param fromIndex The position the first Task was inserted at, starting from 0
+     * @param tasks The Tasks which were inserted, in order
+     * @return The change made to the TaskList
+     */
+    public static TaskListChange added(int fromIndex, List<Task> tasks) {
+        return new TaskListChange(Kind.ADDED, fromIndex, tasks);
+    }
+
+    /**
+     * Returns the change made when the given Tasks are removed from a TaskList.
+     *
+     * @param fromIndex The position the first Task was removed from, starting from 0
+     * @param tasks The Tasks which were removed, in order
+     * @return The change made to the TaskList
+     */
+    public static TaskListChange removed(int fromIndex, List<Task> tasks) {
+        return new TaskListChange(Kind.REMOVED, fromIndex, tasks);
+    }
+
+    /**
+     * Returns the change made when the given Task in a TaskList is modified.
+     *
+     * @param index The position of the Task, starting from 0
+     * @param task The Task which was modified
+     * @return The change made to the TaskList
+     */
+    public static TaskListChange updated(int index, Task task) {
+        return new TaskListChange(Kind.UPDATED, index, List.of(task));
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    /**
+     * Returns the position of the first Task affected by the change.
+     *
+     * @return The position of the first Task affected, starting from 0
+     */
+    public int getFromIndex() {
+        return fromIndex;
+    }
+
+    /**
+     * Returns the position after the last Task affected by the change.
+     *
+     * @return The position after the last Task affected
+     */
+    public int getToIndex() {
+        return fromIndex + tasks.size();
+    }
+
+    /**
+     * Returns the Tasks affected by the change, in order.
+     *
+     * <p>The Tasks may be modified by later changes to the TaskList, so listeners which use them on another
+     * thread should take what they need from them when they are notified.</p>
+     *
+     * @return An unmodifiable List of the Tasks affected by the change
+     */
+    public List<Task> getTasks() {
+        return tasks;
+    }
+}
@@ -0,0 +1,14 @@
+package duke.tasklist;
+
+/**
+ * A listener which is notified of each change made to the Tasks in a TaskList.
+ */
+public interface TaskListListener {
+
+    /**
+     * Called after a change is made to the Tasks in the TaskList, on the thread which made the change.
+     *
+     * @param change The change which was made
+     */
+    void onChange(TaskListChange change);
+}
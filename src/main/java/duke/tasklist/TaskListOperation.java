@@ -0,0 +1,24 @@
+package duke.tasklist;
+
+/**
+ * An abstract class representing a single change made to the Tasks stored in a TaskList.
+ *
+ * <p>A TaskListOperation records just enough information to apply the change to the Tasks again,
+ * or to revert it, so that changes can be undone without taking a copy of the whole TaskList.</p>
+ */
+abstract class TaskListOperation {
+
+    /**
+     * Applies the change to the Tasks.
+     *
+     * @param tasks The TaskList storing the Tasks
+     */
+    abstract void apply(TaskList tasks);
+
+    /**
+     * Reverts the change made to the Tasks, restoring them to the state before the change was applied.
+     *
+     * @param tasks The TaskList storing the Tasks
+     */
+    abstract void revert(TaskList tasks);
+}
@@ -0,0 +1,440 @@
+package duke.tasklist;
+
+import duke.util.Cancellation;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+
+/**
+ * An immutable snapshot of the Tasks in a TaskList, which is replaced by a new snapshot with each change.
+ *
+ * <p>The Tasks are kept in chunks of up to CHUNK_CAPACITY Tasks, each with a DescriptionArena holding the folded
+ * words of their descriptions for searches. A change makes a new snapshot which shares every chunk but the one
+ * changed, so it costs time in proportion to the number of chunks and the size of one chunk, rather than to the
+ * number of Tasks. A Task added at the end is written into the spare room of the last chunk and its arena, which
+ * older snapshots sharing the chunk never read, so adding a Task usually takes constant time.</p>
+ *
+ * <p>Snapshots are only made by a TaskList while holding its lock, and are published through a volatile field,
+ * so threads reading a snapshot see every Task written into it.</p>
+ */
+final class TaskSnapshot extends AbstractList<Task> implements RandomAccess {
+    // the most Tasks kept in one chunk
+    static final int CHUNK_CAPACITY = 1024;
+    // the room for Tasks a chunk starts with, which doubles each time it runs out
+    private static final int MIN_CHUNK_CAPACITY = 16;
+    // chunks left with fewer Tasks than this after a removal are merged with a neighbour, if they fit in one
+    private static final int MERGE_THRESHOLD = CHUNK_CAPACITY / 4;
+    // the room for characters an arena starts with
+    private static final int MIN_ARENA_CAPACITY = 256;
+
+    static final TaskSnapshot EMPTY = new TaskSnapshot(new Chunk[0], new int[0], 0);
+
+    private final Chunk[] chunks;
+    // the position of the first Task of each chunk in the snapshot
+    private final int[] chunkStarts;
+    private final int size;
+
+    private TaskSnapshot(Chunk[] chunks, int[] chunkStarts, int size) {
+        assert chunks.length == chunkStarts.length;
+        this.chunks = chunks;
+        this.chunkStarts = chunkStarts;
+        this.size = size;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Task get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        int chunk = findChunk(index);
+        return chunks[chunk].tasks[index - chunkStarts[chunk]];
+    }
+
+    @Override
+    public Iterator<Task> iterator() {
+        return new Iterator<Task>() {
+            private int chunk = 0;
+            private int slot = 0;
+            private int remaining = size;
+
+            @Override
+            public boolean hasNext() {
+                return remaining > 0;
+            }
+
+            @Override
+            public Task next() {
+                if (remaining == 0) {
+                    throw new NoSuchElementException();
+                }
+                while (slot == getChunkSize(chunk)) {
+                    chunk++;
+                    slot = 0;
+                }
+                remaining--;
+                return chunks[chunk].tasks[slot++];
+            }
+        };
+    }
+
+    /**
+     * Returns a snapshot with the given Task inserted at the given position.
+     *
+     * @param index The position to insert the Task at, from 0 to the size of this snapshot
+     * @param task The Task to insert
+     * @return The snapshot with the Task inserted
+     */
+    TaskSnapshot inserted(int index, Task task) {
+        assert index >= 0 && index <= size;
+        assert task != null;
+        if (index == size) {
+            return appended(task);
+        }
+
+        int chunk = findChunk(index);
+        int slot = index - chunkStarts[chunk];
+        int chunkSize = getChunkSize(chunk);
+        if (chunkSize < CHUNK_CAPACITY) {
+            Chunk changed = build(chunks[chunk], 0, chunkSize, null, 0, 0, slot, task, false);
+            return new TaskSnapshot(replace(chunks, chunk, changed), shiftStarts(chunkStarts, chunk + 1, 1),
+                    size + 1);
+        }
+
+        // a full chunk is split in two, and the Task inserted into the half it falls in
+        int half = CHUNK_CAPACITY / 2;
+        Chunk first = (slot <= half)
+                ? build(chunks[chunk], 0, half, null, 0, 0, slot, task, true)
+                : build(chunks[chunk], 0, half, null, 0, 0, -1, null, true);
+        Chunk second = (slot <= half)
+                ? build(chunks[chunk], half, CHUNK_CAPACITY, null, 0, 0, -1, null, true)
+                : build(chunks[chunk], half, CHUNK_CAPACITY, null, 0, 0, slot - half, task, true);
+        Chunk[] newChunks = new Chunk[chunks.length + 1];
+        System.arraycopy(chunks, 0, newChunks, 0, chunk);
+        newChunks[chunk] = first;
+        newChunks[chunk + 1] = second;
+        System.arraycopy(chunks, chunk + 1, newChunks, chunk + 2, chunks.length - chunk - 1);
+        int[] newStarts = new int[chunkStarts.length + 1];
+        System.arraycopy(chunkStarts, 0, newStarts, 0, chunk + 1);
+        newStarts[chunk + 1] = chunkStarts[chunk] + first.filled;
+        for (int i = chunk + 2; i < newStarts.length; i++) {
+            newStarts[i] = chunkStarts[i - 1] + 1;
+        }
+        return new TaskSnapshot(newChunks, newStarts, size + 1);
+    }
+
+    /**
+     * Helper method to return a snapshot with the given Task added at the end, writing it into the last chunk in
+     * place if no other snapshot has written past the end of this one, and the chunk and its arena have room.
+     */
+    private TaskSnapshot appended(Task task) {
+        int last = chunks.length - 1;
+        if (last >= 0) {
+            int lastSize = getChunkSize(last);
+            Chunk lastChunk = chunks[last];
+            if (lastChunk.filled == lastSize && lastSize < lastChunk.tasks.length
+                    && lastChunk.arena.hasRoomFor(task.getDescription())) {
+                lastChunk.add(task);
+                return new TaskSnapshot(chunks, chunkStarts, size + 1);
+            }
+            if (lastSize < CHUNK_CAPACITY) {
+                // the last chunk is copied, with more room if it has run out
+                Chunk changed = build(lastChunk, 0, lastSize, null, 0, 0, lastSize, task, false);
+                return new TaskSnapshot(replace(chunks, last, changed), chunkStarts, size + 1);
+            }
+        }
+
+        Chunk added = new Chunk(MIN_CHUNK_CAPACITY, new DescriptionArena(
+                Math.max(MIN_ARENA_CAPACITY, 2 * DescriptionArena.getMaxFoldedLength(task.getDescription()))));
+        added.add(task);
+        Chunk[] newChunks = Arrays.copyOf(chunks, chunks.length + 1);
+        newChunks[chunks.length] = added;
+        int[] newStarts = Arrays.copyOf(chunkStarts, chunkStarts.length + 1);
+        newStarts[chunkStarts.length] = size;
+        return new TaskSnapshot(newChunks, newStarts, size + 1);
+    }
+
+    /**
+     * Returns a snapshot with the Task at the given position removed.
+     *
+     * <p>The words of the Task are left in the arena of its chunk, which is shared with this snapshot, until there
+     * are enough of them unused for the chunk to be copied into a new arena.</p>
+     *
+     * @param index The position of the Task to remove, starting from 0
+     * @return The snapshot with the Task removed
+     */
+    TaskSnapshot removed(int index) {
+        assert index >= 0 && index < size;
+        int chunk = findChunk(index);
+        int slot = index - chunkStarts[chunk];
+        int chunkSize = getChunkSize(chunk);
+        if (chunkSize == 1) {
+            return new TaskSnapshot(remove(chunks, chunk), removeStart(chunkStarts, chunk), size - 1);
+        }
+
+        Chunk changed = build(chunks[chunk], 0, slot, chunks[chunk], slot + 1, chunkSize, -1, null, false);
+        int neighbour = (chunk + 1 < chunks.length) ? chunk + 1 : chunk - 1;
+        if (changed.filled >= MERGE_THRESHOLD || neighbour < 0
+                || changed.filled + getChunkSize(neighbour) > CHUNK_CAPACITY / 2) {
+            return new TaskSnapshot(replace(chunks, chunk, changed), shiftStarts(chunkStarts, chunk + 1, -1),
+                    size - 1);
+        }
+
+        // a chunk left with few Tasks is merged with its neighbour, so that the number of chunks stays small
+        int first = Math.min(chunk, neighbour);
+        Chunk merged = (first == chunk)
+                ? build(changed, 0, changed.filled, chunks[neighbour], 0, getChunkSize(neighbour), -1, null, true)
+                : build(chunks[neighbour], 0, getChunkSize(neighbour), changed, 0, changed.filled, -1, null, true);
+        Chunk[] newChunks = remove(replace(chunks, first, merged), first + 1);
+        return new TaskSnapshot(newChunks, removeStart(chunkStarts, first + 1), size - 1);
+    }
+
+    /**
+     * Returns the Tasks in the given range of positions which words meet the given condition, in order, stopping
+     * if the given thread the search is done for is interrupted.
+     *
+     * @param fromIndex The first position to search
+     * @param toIndex The position after the last one to search
+     * @param condition The condition the words of the matching Tasks meet
+     * @param caller The thread the search is done for
+     * @return An ArrayList of the matching Tasks
+     * @throws java.util.concurrent.CancellationException if the thread the search is done for is interrupted
+     */
+    ArrayList<Task> filter(int fromIndex, int toIndex, DescriptionArena.Condition condition, Thread caller) {
+        ArrayList<Task> results = new ArrayList<Task>();
+        if (fromIndex >= toIndex) {
+            return results;
+        }
+        int chunk = findChunk(fromIndex);
+        int slot = fromIndex - chunkStarts[chunk];
+        int chunkSize = getChunkSize(chunk);
+        for (int i = fromIndex; i < toIndex; i++) {
+            while (slot == chunkSize) {
+                chunk++;
+                slot = 0;
+                chunkSize = getChunkSize(chunk);
+            }
+            Cancellation.checkpoint(caller);
+            Chunk current = chunks[chunk];
+            if (condition.test(current.arena, current.wordStarts[slot], current.wordEnds[slot])) {
+                results.add(current.tasks[slot]);
+            }
+            slot++;
+        }
+        return results;
+    }
+
+    /**
+     * Returns the positions of the Tasks which words meet the given condition, out of the given positions.
+     *
+     * @param candidates The positions to search, in increasing order, or null to search every position
+     * @param condition The condition the words of the matching Tasks meet
+     * @return The positions of the matching Tasks, in increasing order
+     * @throws java.util.concurrent.CancellationException if the current thread is interrupted during the search
+     */
+    int[] findPositions(int[] candidates, DescriptionArena.Condition condition) {
+        int count = (candidates == null) ? size : candidates.length;
+        int[] found = new int[Math.min(count, MIN_CHUNK_CAPACITY)];
+        int foundCount = 0;
+        int chunk = 0;
+        for (int i = 0; i < count; i++) {
+            int index = (candidates == null) ? i : candidates[i];
+            while (chunk + 1 < chunks.length && chunkStarts[chunk + 1] <= index) {
+                chunk++;
+            }
+            Cancellation.checkpoint();
+            Chunk current = chunks[chunk];
+            int slot = index - chunkStarts[chunk];
+            if (condition.test(current.arena, current.wordStarts[slot], current.wordEnds[slot])) {
+                if (foundCount == found.length) {
+                    found = Arrays.copyOf(found, 2 * foundCount);
+                }
+                found[foundCount++] = index;
+            }
+        }
+        return Arrays.copyOf(found, foundCount);
+    }
+
+    /**
+     * Returns the Tasks at the given positions.
+     *
+     * @param positions The positions of the Tasks, in increasing order
+     * @return An unmodifiable List of the Tasks, in order
+     */
+    List<Task> getAll(int[] positions) {
+        ArrayList<Task> tasks = new ArrayList<Task>(positions.length);
+        int chunk = 0;
+        for (int index : positions) {
+            while (chunk + 1 < chunks.length && chunkStarts[chunk + 1] <= index) {
+                chunk++;
+            }
+            tasks.add(chunks[chunk].tasks[index - chunkStarts[chunk]]);
+        }
+        return Collections.unmodifiableList(tasks);
+    }
+
+    /**
+     * Helper method to return the number of Tasks of the given chunk in this snapshot, which may be fewer than the
+     * chunk holds if Tasks were added to it after this snapshot was made.
+     */
+    private int getChunkSize(int chunk) {
+        int end = (chunk + 1 < chunks.length) ? chunkStarts[chunk + 1] : size;
+        return end - chunkStarts[chunk];
+    }
+
+    /**
+     * Helper method to find the chunk holding the Task at the given position.
+     */
+    private int findChunk(int index) {
+        int low = 0;
+        int high = chunkStarts.length - 1;
+        while (low < high) {
+            int middle = (low + high + 1) >>> 1;
+            if (chunkStarts[middle] <= index) {
+                low = middle;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Helper method to build a new chunk from the Tasks in the given ranges of one or two chunks, in order, with
+     * the given Task inserted at the given position in the new chunk, unless the position is -1.
+     *
+     * <p>The new chunk shares the arena of the chunks it is built from if they share one, it has room for the words
+     * of the Task inserted, and no more than about half of it is taken up by the words of Tasks which were removed.
+     * Otherwise, or if it is to be compacted, the words of its Tasks are copied into a new arena.</p>
+     */
+    private static Chunk build(Chunk first, int firstFrom, int firstTo, Chunk second, int secondFrom, int secondTo,
+            int insertAt, Task task, boolean isCompacted) {
+        int count = (firstTo - firstFrom) + (secondTo - secondFrom) + (task == null ? 0 : 1);
+        int usedChars = first.getCharCount(firstFrom, firstTo)
+                + (second == null ? 0 : second.getCharCount(secondFrom, secondTo));
+        DescriptionArena arena = first.arena;
+        boolean isShared = !isCompacted
+                && (second == null || second.arena == arena)
+                && (task == null || arena.hasRoomFor(task.getDescription()))
+                && arena.getFilled() <= 2 * usedChars + MIN_ARENA_CAPACITY;
+        if (!isShared) {
+            int neededChars = usedChars
+                    + (task == null ? 0 : DescriptionArena.getMaxFoldedLength(task.getDescription()));
+            arena = new DescriptionArena(Math.max(MIN_ARENA_CAPACITY, 2 * neededChars));
+        }
+
+        Chunk built = new Chunk(Math.min(CHUNK_CAPACITY, Math.max(MIN_CHUNK_CAPACITY, 2 * count)), arena);
+        for (int i = firstFrom; i < firstTo; i++) {
+            if (built.filled == insertAt) {
+                built.add(task);
+            }
+            built.addFrom(first, i);
+        }
+        for (int i = secondFrom; i < secondTo; i++) {
+            if (built.filled == insertAt) {
+                built.add(task);
+            }
+            built.addFrom(second, i);
+        }
+        if (built.filled == insertAt) {
+            built.add(task);
+        }
+        return built;
+    }
+
+    private static Chunk[] replace(Chunk[] chunks, int index, Chunk chunk) {
+        Chunk[] newChunks = chunks.clone();
+        newChunks[index] = chunk;
+        return newChunks;
+    }
+
+    private static Chunk[] remove(Chunk[] chunks, int index) {
+        Chunk[] newChunks = new Chunk[chunks.length - 1];
+        System.arraycopy(chunks, 0, newChunks, 0, index);
+        System.arraycopy(chunks, index + 1, newChunks, index, newChunks.length - index);
+        return newChunks;
+    }
+
+    private static int[] removeStart(int[] starts, int index) {
+        int[] newStarts = new int[starts.length - 1];
+        System.arraycopy(starts, 0, newStarts, 0, index);
+        for (int i = index; i < newStarts.length; i++) {
+            newStarts[i] = starts[i + 1] - 1;
+        }
+        return newStarts;
+    }
+
+    private static int[] shiftStarts(int[] starts, int fromIndex, int shift) {
+        int[] newStarts = starts.clone();
+        for (int i = fromIndex; i < newStarts.length; i++) {
+            newStarts[i] += shift;
+        }
+        return newStarts;
+    }
+
+    /**
+     * A run of consecutive Tasks in one or more snapshots, with the range of the words of each Task in its arena.
+     *
+     * <p>Each snapshot sharing a chunk reads as many of its Tasks as the snapshot says it holds. Only the snapshot
+     * which wrote the last Task filled, if any, may write the next one.</p>
+     */
+    private static final class Chunk {
+        private final Task[] tasks;
+        private final int[] wordStarts;
+        private final int[] wordEnds;
+        private final DescriptionArena arena;
+        // the number of Tasks written into the chunk, only changed while holding the lock of the TaskList
+        private int filled;
+
+        private Chunk(int capacity, DescriptionArena arena) {
+            tasks = new Task[capacity];
+            wordStarts = new int[capacity];
+            wordEnds = new int[capacity];
+            this.arena = arena;
+        }
+
+        /**
+         * Helper method to write the given Task after those already written, appending its words to the arena.
+         */
+        private void add(Task task) {
+            tasks[filled] = task;
+            wordStarts[filled] = arena.getFilled();
+            wordEnds[filled] = arena.append(task.getDescription());
+            filled++;
+        }
+
+        /**
+         * Helper method to write the Task in the given slot of another chunk after those already written, sharing
+         * its words if the chunks share an arena, or copying them otherwise.
+         */
+        private void addFrom(Chunk other, int slot) {
+            tasks[filled] = other.tasks[slot];
+            if (other.arena == arena) {
+                wordStarts[filled] = other.wordStarts[slot];
+                wordEnds[filled] = other.wordEnds[slot];
+            } else {
+                wordStarts[filled] = arena.getFilled();
+                wordEnds[filled] = arena.append(other.arena, other.wordStarts[slot], other.wordEnds[slot]);
+            }
+            filled++;
+        }
+
+        private int getCharCount(int fromSlot, int toSlot) {
+            int charCount = 0;
+            for (int i = fromSlot; i < toSlot; i++) {
+                charCount += wordEnds[i] - wordStarts[i];
+            }
+            return charCount;
+        }
+    }
+}
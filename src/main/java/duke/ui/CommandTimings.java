@@ -0,0 +1,74 @@
+package duke.ui;
+
+import duke.command.Parser;
+import duke.command.Type;
+import duke.metrics.SlowCommandLog;
+
+/**
+ * How long each phase of a command took, which is logged as soon as the command ends if it was already slow, or
+ * kept with its Response until the Response is first rendered otherwise, in case rendering makes it slow.
+ */
+class CommandTimings {
+    private final SlowCommandLog log;
+    private final String input;
+    private final Type type;
+    private final int listSize;
+    private final String threadName;
+    private final long parseNanos;
+    private final long executeNanos;
+    private final long persistNanos;
+
+    /**
+     * Constructs the timings of a command executed on the current thread.
+     *
+     * @param log The log to record the command in, if it was slow
+     * @param input The input given for the command
+     * @param type The Type of the command, or null if the input is not a command
+     * @param listSize The number of Tasks in the TaskList after the command
+     * @param parseNanos How long parsing the input took
+     * @param executeNanos How long executing the command took, not counting saving and loading
+     * @param persistNanos How long saving and loading took
+     */
+    CommandTimings(SlowCommandLog log, String input, Type type, int listSize, long parseNanos, long executeNanos,
+            long persistNanos) {
+        this.log = log;
+        this.input = input;
+        this.type = type;
+        this.listSize = listSize;
+        this.threadName = Thread.currentThread().getName();
+        this.parseNanos = parseNanos;
+        this.executeNanos = executeNanos;
+        this.persistNanos = persistNanos;
+    }
+
+    /**
+     * Logs the command, without the time taken to render its Response, if it took longer than the threshold of the
+     * log before its Response was rendered.
+     *
+     * @return True if the command was logged, false otherwise
+     */
+    boolean recordIfSlow() {
+        if (!log.isSlow(parseNanos + executeNanos + persistNanos)) {
+            return false;
+        }
+        record(-1);
+        return true;
+    }
+
+    /**
+     * Logs the command if, with the given time taken to render its Response, it took longer than the threshold of
+     * the log.
+     *
+     * @param renderNanos How long rendering the Response took
+     */
+    void finish(long renderNanos) {
+        if (log.isSlow(parseNanos + executeNanos + persistNanos + renderNanos)) {
+            record(renderNanos);
+        }
+    }
+
+    private void record(long renderNanos) {
+        log.record(input, (type == null) ? null : Parser.getCommandWord(type), listSize, threadName, parseNanos,
+                (type == null) ? -1 : executeNanos, (type == null) ? -1 : persistNanos, renderNanos);
+    }
+}
@@ -11,71 +11,82 @@ import duke.command.Parser;
 import duke.command.RelaxedSearchCommand;
 import duke.command.SaveCommand;
 import duke.command.SearchCommand;
+import duke.command.ShowListCommand;
+import duke.command.Type;
 import duke.io.Storage;
+import duke.metrics.CommandEvent;
+import duke.metrics.Metrics;
+import duke.metrics.SlowCommandLog;
 
 import duke.error.DukeException;
+import duke.error.ErrorCode;
+import duke.error.Outcome;
 
 import duke.tasklist.Task;
 import duke.tasklist.TaskList;
+import duke.tasklist.TaskListChange;
+import duke.tasklist.TaskListListener;
 import duke.tasklist.ToDo;
 import duke.tasklist.Deadline;
 import duke.tasklist.Event;
-import javafx.beans.InvalidationListener;
-import javafx.beans.property.SimpleStringProperty;
-import javafx.beans.value.ChangeListener;
-import javafx.beans.value.ObservableStringValue;
 
 import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
 
 /**
  * The driver class that uses the various components of Duke to represent a Task managing assistant.
  */
 public class Duke {
+    // the bodies of Responses which never change are shared
+    private static final ResponseBody GREETING = ResponseBody.text("Hi, I'm Duke! What can I do for you?");
+    private static final ResponseBody GOODBYE = ResponseBody.text("GoodBye! Hope to see you again!");
+    private static final ResponseBody GOODBYE_DISCARDING_CHANGES =
+            ResponseBody.text("Your uncommitted changes have been discarded.\nGoodBye! Hope to see you again!");
+    private static final ResponseBody EMPTY_LIST = ResponseBody.text("Your list is empty!");
+    private static final ResponseBody LIST_HEADER = ResponseBody.text("Here are the task(s) in your list:");
+    private static final ResponseBody MATCHING_TASKS_HEADER =
+            ResponseBody.text("Here are the matching task(s) in your list:");
+    private static final ResponseBody NO_MATCHING_TASKS = ResponseBody.text(
+            "There are no matching tasks in your list!\nMaybe you can check your query, or use relaxfind instead!");
+    private static final ResponseBody NO_RELAXED_MATCHING_TASKS =
+            ResponseBody.text("There are no matching tasks in your list!");
+    private static final ResponseBody TRANSACTION_BEGUN =
+            ResponseBody.text("Okay! Changes to your list will only be saved when you commit them.");
 
     public static String DEFAULT_SAVE_FILE_NAME = "DukeSave01";
-    public ObservableStringValue observableStorageName;
-    private Storage storage;
-    private TaskList taskList;
-    private boolean isActive;
-    private SimpleStringProperty storageName;
+    public static int DEFAULT_HISTORY_LIMIT = 100;
+    // the fields below are volatile so that one Duke can be used from several threads
+    // the current TaskList with its Storage, which are replaced together so that they are always read together
+    private volatile LoadedTaskList loaded;
+    private volatile boolean isActive;
+    // the name of the save file of the current TaskList, which front-ends may read from their own threads
+    private volatile String storageName;
+    private int historyLimit;
+    private volatile SlowCommandLog slowCommandLog = SlowCommandLog.getDefault();
+    // the listeners notified when a TaskList is loaded from another save file
+    private final List<Consumer<String>> storageNameListeners = new CopyOnWriteArrayList<Consumer<String>>();
+    // the listeners notified of changes to whichever TaskList is loaded
+    private final List<TaskListListener> taskListListeners = new CopyOnWriteArrayList<TaskListListener>();
 
     /**
      * Constructor for Duke.
      */
     public Duke() {
-        isActive = false;
-        storageName = new SimpleStringProperty("");
-        observableStorageName = new ObservableStringValue() {
-            @Override
-            public String get() {
-                return storageName.get();
-            }
-
-            @Override
-            public String getValue() {
-                return storageName.getValue();
-            }
-
-            @Override
-            public void addListener(ChangeListener<? super String> changeListener) {
-                storageName.addListener(changeListener);
-            }
-
-            @Override
-            public void addListener(InvalidationListener invalidationListener) {
-                storageName.addListener(invalidationListener);
-            }
-
-            @Override
-            public void removeListener(ChangeListener<? super String> changeListener) {
-                storageName.removeListener(changeListener);
-            }
+        this(DEFAULT_HISTORY_LIMIT);
+    }
 
-            @Override
-            public void removeListener(InvalidationListener invalidationListener) {
-                storageName.removeListener(invalidationListener);
-            }
-        };
+    /**
+     * Constructor for Duke, which allows up to the given number of changes to the TaskList to be undone.
+     *
+     * @param historyLimit The maximum number of changes to the TaskList which can be undone
+     */
+    public Duke(int historyLimit) {
+        assert historyLimit >= 0;
+        this.historyLimit = historyLimit;
+        isActive = false;
+        storageName = "";
     }
 
     /**
@@ -85,26 +96,146 @@ public class Duke {
      */
     public Response greet() {
         isActive = true;
-        return Response.fromString("Hi, I'm Duke! What can I do for you?", isActive);
+        return Response.fromBody(GREETING, isActive);
     }
 
 
     /**
      * Returns the Response from Duke as a result of the given user input.
      *
+     * <p>Errors caused by invalid input are reported through the Response without throwing a DukeException.</p>
+     *
+     * <p>Searching and loading a TaskList can be cancelled by interrupting the thread calling this method, in
+     * which case Duke is left as it was before the input was given.</p>
+     *
+     * <p>How long each Command takes, from parsing the input to executing it, is recorded in Metrics.GLOBAL, and
+     * as a CommandEvent when a flight recording is running. If the Command takes longer than the threshold of the
+     * SlowCommandLog, it is recorded there too, with the time taken by each phase, even if it was cancelled. A
+     * Command which is only slow once rendering its Response the first time is counted is recorded when it is
+     * rendered.</p>
+     *
      * @param input The user input given to Duke
      * @return the Response from Duke as a result of the given user input.
+     * @throws java.util.concurrent.CancellationException if the current thread is interrupted while searching or
+     *         loading a TaskList
      */
     public Response getResponse(String input) {
         assert input != null;
         if (!isActive) {
-            return Response.fromError(new DukeException("not accepting commands"), isActive);
+            return Response.fromError(ErrorCode.INACTIVE, "not accepting commands", isActive);
+        }
+
+        long startTime = System.nanoTime();
+        long storageNanos = Metrics.GLOBAL.getStorageNanos();
+        CommandEvent event = new CommandEvent();
+        event.begin();
+        Outcome<Command> command = Parser.tryParseAsCommand(input);
+        long parsedTime = System.nanoTime();
+        if (command.isFailure()) {
+            Metrics.GLOBAL.recordInvalidInput();
+            Response response = Response.fromFailure(command, isActive);
+            logIfSlow(response, input, null, startTime, parsedTime, storageNanos);
+            return response;
         }
+
+        Type type = command.getValue().getType();
+        Response response = null;
         try {
-            return Response.fromString(executeCommand(Parser.parseAsCommand(input)), isActive);
+            Outcome<ResponseBody> body = executeCommand(command.getValue());
+            Metrics.GLOBAL.recordCommand(type, System.nanoTime() - startTime, body.isFailure());
+            commitCommandEvent(event, type, body.isSuccess() ? body.getValue() : null);
+            response = body.isSuccess()
+                    ? Response.fromBody(body.getValue(), isActive)
+                    : Response.fromFailure(body, isActive);
         } catch (DukeException dukeException) {
-            return Response.fromError(dukeException, isActive);
+            // the save file could not be read from or written to
+            Metrics.GLOBAL.recordCommand(type, System.nanoTime() - startTime, true);
+            commitCommandEvent(event, type, null);
+            response = Response.fromError(ErrorCode.STORAGE, dukeException.getMessage(), isActive);
+        } finally {
+            // a Command cancelled part way, which leaves no Response, is logged here too
+            logIfSlow(response, input, type, startTime, parsedTime, storageNanos);
+        }
+        return response;
+    }
+
+    /**
+     * Helper method to record the command in the SlowCommandLog if it already took longer than the threshold, or
+     * otherwise to give its Response, if any, the timings of the command, so that it is recorded if rendering the
+     * Response makes it slow.
+     */
+    private void logIfSlow(Response response, String input, Type type, long startTime, long parsedTime,
+            long storageNanosBefore) {
+        SlowCommandLog log = slowCommandLog;
+        if (!log.isEnabled()) {
+            return;
         }
+        long persistNanos = Metrics.GLOBAL.getStorageNanos() - storageNanosBefore;
+        long executeNanos = System.nanoTime() - parsedTime - persistNanos;
+        LoadedTaskList current = loaded;
+        int listSize = (current == null) ? 0 : current.taskList.size();
+        CommandTimings timings = new CommandTimings(log, input, type, listSize, parsedTime - startTime,
+                executeNanos, persistNanos);
+        if (!timings.recordIfSlow() && response != null) {
+            response.setTimings(timings);
+        }
+    }
+
+    /**
+     * Sets the log which commands taking longer than its threshold are recorded in, instead of
+     * SlowCommandLog.getDefault().
+     *
+     * @param slowCommandLog The log to record slow commands in
+     */
+    public void setSlowCommandLog(SlowCommandLog slowCommandLog) {
+        assert slowCommandLog != null;
+        this.slowCommandLog = slowCommandLog;
+    }
+
+    /**
+     * Helper method to commit the event for a Command which was executed, if it is being recorded, with the body of
+     * the Response, or null if the Command failed.
+     */
+    private void commitCommandEvent(CommandEvent event, Type type, ResponseBody body) {
+        if (!event.shouldCommit()) {
+            return;
+        }
+        LoadedTaskList current = loaded;
+        List<TaskRecord> tasks = (body == null) ? null : body.getTasks();
+        event.command = Parser.getCommandWord(type);
+        event.listSize = (current == null) ? 0 : current.taskList.size();
+        event.resultCount = (tasks == null) ? 0 : tasks.size();
+        event.failed = (body == null);
+        event.commit();
+    }
+
+    /**
+     * Returns true if a transaction is in progress on the current TaskList, false otherwise.
+     *
+     * @return True if a transaction is in progress, false otherwise
+     */
+    public boolean isInTransaction() {
+        LoadedTaskList current = loaded;
+        return current != null && current.taskList.isInTransaction();
+    }
+
+    /**
+     * Returns the name of the save file of the current TaskList.
+     *
+     * @return The name of the save file, or an empty String if no TaskList has been loaded
+     */
+    public String getStorageName() {
+        return storageName;
+    }
+
+    /**
+     * Adds a listener which is notified with the name of the save file whenever a TaskList is loaded.
+     *
+     * @param listener The listener to notify, on the thread which gave Duke the command loading the TaskList
+     */
+    public void addStorageNameListener(Consumer<String> listener) {
+        assert listener != null;
+        storageNameListeners.add(listener);
     }
 
     /**
@@ -116,13 +247,250 @@ public class Duke {
         return isActive;
     }
 
+    /**
+     * Returns up to the given number of completions of the given partial user input, best first.
+     *
+     * <p>The first word of the input is completed with the command words Duke knows, and any later word with
+     * the words used in the descriptions of the Tasks in the TaskList. Both are looked up in prefix indexes
+     * which are kept up to date as the TaskList changes, so that completions can be given as the user types.</p>
+     *
+     * @param input The partial user input
+     * @param limit The maximum number of completions to return
+     * @return A List of the completed user inputs, which is empty if the last word cannot be completed
+     */
+    public List<String> getSuggestions(String input, int limit) {
+        assert input != null;
+        int wordStart = input.length();
+        while (wordStart > 0 && !Character.isWhitespace(input.charAt(wordStart - 1))) {
+            wordStart--;
+        }
+        String prefix = input.substring(wordStart);
+        String completedInput = input.substring(0, wordStart);
+
+        LoadedTaskList current = loaded;
+        List<String> words;
+        if (completedInput.isBlank()) {
+            words = Parser.completeCommandWord(prefix, limit);
+        } else if (prefix.isEmpty() || current == null) {
+            return List.of();
+        } else {
+            words = current.taskList.completeWord(prefix, limit);
+        }
+
+        ArrayList<String> suggestions = new ArrayList<String>(words.size());
+        for (String word : words) {
+            suggestions.add(completedInput + word);
+        }
+        return suggestions;
+    }
+
+    /**
+     * Returns the Tasks in the current TaskList with descriptions containing the query (not case-sensitive), for
+     * searching as the user types.
+     *
+     * <p>Searching for a query which extends the previous query only searches the results of the previous query,
+     * as long as the TaskList has not changed in between.</p>
+     *
+     * @param query The text to search for in the descriptions of the Tasks
+     * @return An unmodifiable List of the matching Tasks, in order
+     * @throws java.util.concurrent.CancellationException if the current thread is interrupted during the search
+     */
+    public List<Task> searchIncrementally(String query) {
+        assert query != null;
+        LoadedTaskList current = loaded;
+        return current == null ? List.of() : current.taskList.searchIncrementally(query);
+    }
+
+    /**
+     * Adds the given Task to the end of the current TaskList, saving the TaskList unless a transaction is in
+     * progress.
+     *
+     * @param task The Task to add
+     * @return An Outcome with the Task added and the number of Tasks in the TaskList afterwards, or with the error
+     *         which prevented the Task from being added
+     */
+    public Outcome<TaskResult> addTask(Task task) {
+        assert task != null;
+        Outcome<LoadedTaskList> ready = requireTaskList();
+        if (ready.isFailure()) {
+            return Outcome.failure(ready);
+        }
+        TaskList taskList = ready.getValue().taskList;
+
+        taskList.add(task);
+        Outcome<Void> saved = saveUnlessInTransaction(ready.getValue());
+        if (saved.isFailure()) {
+            return Outcome.failure(saved);
+        }
+        return Outcome.success(TaskResult.of(TaskRecord.of(task), taskList.size(), taskList.size()));
+    }
+
+    /**
+     * Marks the Task with the given number in the current TaskList as done, saving the TaskList unless a
+     * transaction is in progress.
+     *
+     * @param taskNumber The number of the Task, starting from 1
+     * @return An Outcome with the Task completed and the number of Tasks in the TaskList, or with the error which
+     *         prevented the Task from being completed
+     */
+    public Outcome<TaskResult> complete(int taskNumber) {
+        Outcome<LoadedTaskList> ready = requireTaskList();
+        if (ready.isFailure()) {
+            return Outcome.failure(ready);
+        }
+        TaskList taskList = ready.getValue().taskList;
+
+        Outcome<Task> task = taskList.complete(taskNumber);
+        if (task.isFailure()) {
+            return Outcome.failure(task);
+        }
+        Outcome<Void> saved = saveUnlessInTransaction(ready.getValue());
+        if (saved.isFailure()) {
+            return Outcome.failure(saved);
+        }
+        return Outcome.success(TaskResult.of(TaskRecord.of(task.getValue()), taskNumber, taskList.size()));
+    }
+
+    /**
+     * Removes the Task with the given number from the current TaskList, saving the TaskList unless a
+     * transaction is in progress.
+     *
+     * @param taskNumber The number of the Task, starting from 1
+     * @return An Outcome with the Task removed and the number of Tasks in the TaskList afterwards, or with the
+     *         error which prevented the Task from being removed
+     */
+    public Outcome<TaskResult> delete(int taskNumber) {
+        Outcome<LoadedTaskList> ready = requireTaskList();
+        if (ready.isFailure()) {
+            return Outcome.failure(ready);
+        }
+        TaskList taskList = ready.getValue().taskList;
+
+        Outcome<Task> task = taskList.delete(taskNumber);
+        if (task.isFailure()) {
+            return Outcome.failure(task);
+        }
+        Outcome<Void> saved = saveUnlessInTransaction(ready.getValue());
+        if (saved.isFailure()) {
+            return Outcome.failure(saved);
+        }
+        return Outcome.success(TaskResult.of(TaskRecord.of(task.getValue()), taskNumber, taskList.size()));
+    }
+
+    /**
+     * Returns the Tasks in the current TaskList with a word in their description matching the given keyword
+     * (not case-sensitive).
+     *
+     * @param keyword The keyword to search for
+     * @return An Outcome with the matching Tasks, in order, or with the error which prevented the search
+     * @throws java.util.concurrent.CancellationException if the current thread is interrupted during the search
+     */
+    public Outcome<TaskResult> search(String keyword) {
+        assert keyword != null;
+        Outcome<LoadedTaskList> ready = requireTaskList();
+        if (ready.isFailure()) {
+            return Outcome.failure(ready);
+        }
+        TaskList taskList = ready.getValue().taskList;
+        return Outcome.success(toSearchResult(taskList.search(keyword), taskList.size()));
+    }
+
+    /**
+     * Returns the Tasks in the current TaskList with a word in their description similar to the given keyword,
+     * allowing for typos.
+     *
+     * @param keyword The keyword to search for
+     * @return An Outcome with the matching Tasks, in order, or with the error which prevented the search
+     * @throws java.util.concurrent.CancellationException if the current thread is interrupted during the search
+     */
+    public Outcome<TaskResult> relaxedSearch(String keyword) {
+        assert keyword != null;
+        Outcome<LoadedTaskList> ready = requireTaskList();
+        if (ready.isFailure()) {
+            return Outcome.failure(ready);
+        }
+        TaskList taskList = ready.getValue().taskList;
+        return Outcome.success(toSearchResult(taskList.relaxedSearch(keyword), taskList.size()));
+    }
+
+    /**
+     * Returns a page of the Tasks in the current TaskList.
+     *
+     * <p>Only the Tasks on the page are visited, however long the TaskList is. An empty TaskList has a single,
+     * empty page.</p>
+     *
+     * @param page The page to return, starting from 1
+     * @param pageSize The number of Tasks on each page
+     * @return An Outcome with the Tasks on the page, or with the error if there is no such page
+     */
+    public Outcome<TaskResult> list(int page, int pageSize) {
+        Outcome<LoadedTaskList> ready = requireTaskList();
+        if (ready.isFailure()) {
+            return Outcome.failure(ready);
+        }
+        TaskList taskList = ready.getValue().taskList;
+        if (pageSize < 1) {
+            return Outcome.failure(ErrorCode.NO_SUCH_PAGE, "The page size must be at least 1!");
+        }
+
+        // the number of Tasks and the Tasks on the page are read from the same snapshot, in case of other changes
+        List<Task> snapshot = taskList.snapshot();
+        int taskCount = snapshot.size();
+        if (taskCount < 1) {
+            return Outcome.success(new TaskResult(List.of(), 1, 0, 1, 1));
+        }
+        int pageCount = (taskCount - 1) / pageSize + 1;
+        if (page < 1 || page > pageCount) {
+            return Outcome.failure(
+                    ErrorCode.NO_SUCH_PAGE,
+                    String.format("There is no page %d! Your list has %d page(s).", page, pageCount));
+        }
+
+        int fromIndex = (page - 1) * pageSize;
+        int toIndex = Math.min(fromIndex + pageSize, taskCount);
+        List<Task> tasks = snapshot.subList(fromIndex, toIndex);
+        ArrayList<TaskRecord> records = new ArrayList<TaskRecord>(tasks.size());
+        for (Task task : tasks) {
+            records.add(TaskRecord.of(task));
+        }
+        return Outcome.success(new TaskResult(records, fromIndex + 1, taskCount, page, pageCount));
+    }
+
+    /**
+     * Helper method to check that Duke is accepting commands, and that there is a TaskList for them to work on,
+     * returning the current TaskList and its Storage so that a command reads them only once.
+     */
+    private Outcome<LoadedTaskList> requireTaskList() {
+        if (!isActive) {
+            return Outcome.failure(ErrorCode.INACTIVE, "not accepting commands");
+        }
+        LoadedTaskList current = loaded;
+        if (current == null) {
+            return Outcome.failure(ErrorCode.NO_TASK_LIST, "There is no list loaded! Use load to load one first.");
+        }
+        return Outcome.success(current);
+    }
+
+    /**
+     * Helper method to take snapshots of the results of a search, numbered from 1.
+     */
+    private static TaskResult toSearchResult(List<Task> results, int taskCount) {
+        ArrayList<TaskRecord> records = new ArrayList<TaskRecord>(results.size());
+        for (Task task : results) {
+            records.add(TaskRecord.of(task));
+        }
+        return new TaskResult(records, 1, taskCount, 1, 1);
+    }
+
     /**
      * Determines which Command handler to use, then executes the provided Command with that handler.
      *
      * @param command The Command to be executed
-     * @throws DukeException when the Command cannot be properly executed for some reason
+     * @return An Outcome with the body of Duke's Response after executing the Command, or with the error which
+     *         prevented the Command from being executed
+     * @throws DukeException when the TaskList cannot be loaded or saved
      */
-    private String executeCommand(Command command) throws DukeException {
+    private Outcome<ResponseBody> executeCommand(Command command) throws DukeException {
         assert command != null;
         // all commands passed to this method have all required parameter non-empty
         switch (command.getType()) {
@@ -145,178 +513,317 @@ public class Duke {
         case COMMAND_RELAX_SEARCH:
             return executeSearchCommand((RelaxedSearchCommand) command);
         case COMMAND_SHOW_LIST:
-            return executeShowListCommand();
+            return executeShowListCommand((ShowListCommand) command);
         case COMMAND_EXIT:
-            return executeExitCommand();
+            return Outcome.success(executeExitCommand());
+        case COMMAND_BEGIN_TRANSACTION:
+            return executeBeginTransactionCommand();
+        case COMMAND_COMMIT_TRANSACTION:
+            return executeCommitTransactionCommand();
+        case COMMAND_ROLLBACK_TRANSACTION:
+            return executeRollbackTransactionCommand();
+        case COMMAND_UNDO:
+            return executeUndoCommand();
+        case COMMAND_REDO:
+            return executeRedoCommand();
+        case COMMAND_SHOW_STATS:
+            return Outcome.success(ResponseBody.text(Metrics.GLOBAL.getReport()));
         default:
             throw new DukeUnknownCommandException();
         }
     }
 
-    private String executeAddTaskCommand(AddTaskCommand command) throws DukeException {
+    private Outcome<ResponseBody> executeAddTaskCommand(AddTaskCommand command) {
         assert command != null;
-        String[] parameters = command.getArgumentsUsed();
         Task task;
 
         switch (command.getType()) {
         case COMMAND_ADD_TODO:
-            task = new ToDo(parameters[0]);
+            task = new ToDo(command.getDescription());
             break;
         case COMMAND_ADD_DEADLINE:
-            try {
-                task = new Deadline(parameters[0], Parser.parseDateTime(parameters[1]));
-            } catch (DukeException dukeException) {
-                task = new Deadline(parameters[0], parameters[1]);
-            }
+            task = (command.getDateTime() != null)
+                    ? new Deadline(command.getDescription(), command.getDateTime())
+                    : new Deadline(command.getDescription(), command.getTime());
             break;
         case COMMAND_ADD_EVENT:
-            try {
-                task = new Event(parameters[0], Parser.parseDateTime(parameters[1]));
-            } catch (DukeException dukeException) {
-                task = new Event(parameters[0], parameters[1]);
-            }
+            task = (command.getDateTime() != null)
+                    ? new Event(command.getDescription(), command.getDateTime())
+                    : new Event(command.getDescription(), command.getTime());
             break;
         default:
-            throw new DukeException("This task type is not supported yet");
+            return Outcome.failure(ErrorCode.UNSUPPORTED, "This task type is not supported yet");
         }
 
-        taskList.add(task);
-
-        storage.save(taskList);
-
-        return String.format(
+        Outcome<TaskResult> added = addTask(task);
+        if (added.isFailure()) {
+            return Outcome.failure(added);
+        }
+        return Outcome.success(ResponseBody.format(
                 "Got it! I've added this task to the list:\n%s\nNow you have %d task(s) in your list.",
-                task.toString(),
-                taskList.size());
+                added.getValue().getTask(),
+                added.getValue().getTaskCount()));
     }
 
-
-    private String executeCompleteTaskCommand(CompleteTaskCommand command) throws DukeException {
+    private Outcome<ResponseBody> executeCompleteTaskCommand(CompleteTaskCommand command) {
         assert command != null;
 
-        String[] parameters = command.getArgumentsUsed();
+        Outcome<TaskResult> completed = complete(command.getTaskNumber());
+        if (completed.isFailure()) {
+            return Outcome.failure(completed);
+        }
+        return Outcome.success(
+                ResponseBody.format("Got it! I've marked this task as done:\n%s", completed.getValue().getTask()));
+    }
 
-        Task task = taskList.complete(parameters[0]);
+    private Outcome<ResponseBody> executeDeleteTaskCommand(DeleteTaskCommand command) {
+        assert command != null;
 
-        storage.save(taskList);
-        return String.format("Got it! I've marked this task as done:\n%s", task.toString());
+        Outcome<TaskResult> deleted = delete(command.getTaskNumber());
+        if (deleted.isFailure()) {
+            return Outcome.failure(deleted);
+        }
+        return Outcome.success(ResponseBody.format(
+                "Got it! I've removed this task from the list:\n%s\nNow you have %d task(s) in your list.",
+                deleted.getValue().getTask(),
+                deleted.getValue().getTaskCount()));
     }
 
-    private String executeDeleteTaskCommand(DeleteTaskCommand command) throws DukeException {
+    private Outcome<ResponseBody> executeSearchCommand(SearchCommand command) {
         assert command != null;
 
-        String[] parameters = command.getArgumentsUsed();
+        Outcome<TaskResult> results = search(command.getKeyword());
+        if (results.isFailure()) {
+            return Outcome.failure(results);
+        }
+        return Outcome.success(results.getValue().getTasks().isEmpty()
+                ? NO_MATCHING_TASKS
+                : ResponseBody.tasks(MATCHING_TASKS_HEADER, results.getValue().getTasks(), 1));
+    }
 
-        Task task = taskList.delete(parameters[0]);
+    private Outcome<ResponseBody> executeSearchCommand(RelaxedSearchCommand command) {
+        assert command != null;
 
-        storage.save(taskList);
-        return String.format(
-                "Got it! I've removed this task from the list:\n%s\nNow you have %d task(s) in your list.",
-                task.toString(),
-                taskList.size());
+        Outcome<TaskResult> results = relaxedSearch(command.getKeyword());
+        if (results.isFailure()) {
+            return Outcome.failure(results);
+        }
+        return Outcome.success(results.getValue().getTasks().isEmpty()
+                ? NO_RELAXED_MATCHING_TASKS
+                : ResponseBody.tasks(MATCHING_TASKS_HEADER, results.getValue().getTasks(), 1));
     }
 
-    private String executeSearchCommand(SearchCommand command) {
+    private Outcome<ResponseBody> executeShowListCommand(ShowListCommand command) {
         assert command != null;
 
-        String[] parameters = command.getArgumentsUsed();
-        ArrayList<Task> results = taskList.search(parameters[0]);
-        int resultsCount = results.size();
-
-        if (resultsCount > 0) {
-            StringBuilder output = new StringBuilder();
-            int width = Integer.toString(resultsCount).length();
-            int count = 0;
+        Outcome<TaskResult> page = list(command.getPage(), command.getPageSize());
+        if (page.isFailure()) {
+            return Outcome.failure(page);
+        }
+        TaskResult result = page.getValue();
+        if (result.getTaskCount() < 1) {
+            return Outcome.success(EMPTY_LIST);
+        }
+        ResponseBody header = (result.getPageCount() > 1)
+                ? ResponseBody.format(
+                        "Here are the task(s) in your list (page %d of %d):", result.getPage(), result.getPageCount())
+                : LIST_HEADER;
+        return Outcome.success(ResponseBody.tasks(header, result.getTasks(), result.getFirstNumber()));
+    }
 
-            output.append("Here are the matching task(s) in your list:");
+    private ResponseBody executeExitCommand() {
+        isActive = false;
+        LoadedTaskList current = loaded;
+        if (current != null && current.taskList.isInTransaction()) {
+            current.taskList.rollbackTransaction();
+            return GOODBYE_DISCARDING_CHANGES;
+        }
+        return GOODBYE;
+    }
 
-            for (Task task : results) {
-                count++;
-                output.append(String.format("\n%0" + width + "d. %s", count, task.toString()));
-            }
+    private Outcome<ResponseBody> executeBeginTransactionCommand() {
+        Outcome<LoadedTaskList> ready = requireTaskList();
+        if (ready.isFailure()) {
+            return Outcome.failure(ready);
+        }
+        TaskList taskList = ready.getValue().taskList;
 
-            return output.toString();
-        } else {
-            return new StringBuilder("There are no matching tasks in your list!\n")
-                    .append("Maybe you can check your query, or use relaxfind instead!")
-                    .toString();
+        Outcome<Void> begun = taskList.beginTransaction();
+        if (begun.isFailure()) {
+            return Outcome.failure(begun);
         }
+        return Outcome.success(TRANSACTION_BEGUN);
     }
 
-    private String executeSearchCommand(RelaxedSearchCommand command) {
-        assert command != null;
-
-        String[] parameters = command.getArgumentsUsed();
-        ArrayList<Task> results = taskList.relaxedSearch(parameters[0]);
-        int resultsCount = results.size();
+    private Outcome<ResponseBody> executeCommitTransactionCommand() throws DukeException {
+        Outcome<LoadedTaskList> ready = requireTaskList();
+        if (ready.isFailure()) {
+            return Outcome.failure(ready);
+        }
+        TaskList taskList = ready.getValue().taskList;
 
-        if (resultsCount > 0) {
-            StringBuilder output = new StringBuilder();
-            int width = Integer.toString(resultsCount).length();
-            int count = 0;
+        Outcome<Void> inTransaction = taskList.requireTransaction();
+        if (inTransaction.isFailure()) {
+            return Outcome.failure(inTransaction);
+        }
 
-            output.append("Here are the matching task(s) in your list:");
+        // save before ending the transaction, so that it can still be rolled back if saving fails
+        ready.getValue().storage.save(taskList);
+        int changeCount = taskList.commitTransaction().getValue();
+        return Outcome.success(ResponseBody.format("Got it! I've saved %d change(s) to your list.", changeCount));
+    }
 
-            for (Task task : results) {
-                count++;
-                output.append(String.format("\n%0" + width + "d. %s", count, task.toString()));
-            }
+    private Outcome<ResponseBody> executeRollbackTransactionCommand() {
+        Outcome<LoadedTaskList> ready = requireTaskList();
+        if (ready.isFailure()) {
+            return Outcome.failure(ready);
+        }
+        TaskList taskList = ready.getValue().taskList;
 
-            return output.toString();
-        } else {
-            return "There are no matching tasks in your list!";
+        Outcome<Integer> changeCount = taskList.rollbackTransaction();
+        if (changeCount.isFailure()) {
+            return Outcome.failure(changeCount);
         }
+        return Outcome.success(ResponseBody.format(
+                "Got it! I've discarded %d change(s) to your list.\nNow you have %d task(s) in your list.",
+                changeCount.getValue(),
+                taskList.size()));
     }
 
-    private String executeShowListCommand() {
-        assert taskList != null;
-        int taskCount = taskList.size();
-
-        if (taskCount < 1) {
-            return "Your list is empty!";
-        } else {
-            StringBuilder output = new StringBuilder();
-            int count = 0;
-            int width = Integer.toString(taskCount).length();
+    private Outcome<ResponseBody> executeUndoCommand() throws DukeException {
+        Outcome<LoadedTaskList> ready = requireTaskList();
+        if (ready.isFailure()) {
+            return Outcome.failure(ready);
+        }
+        TaskList taskList = ready.getValue().taskList;
 
-            output.append("Here are the task(s) in your list:");
+        Outcome<Void> undone = taskList.undo();
+        if (undone.isFailure()) {
+            return Outcome.failure(undone);
+        }
+        ready.getValue().storage.save(taskList);
+        return Outcome.success(ResponseBody.format(
+                "Got it! I've undone your last change.\nNow you have %d task(s) in your list.",
+                taskList.size()));
+    }
 
-            for (Task task : taskList.list()) {
-                count++;
-                output.append(String.format("\n%0" + width + "d. %s", count, task.toString()));
-            }
+    private Outcome<ResponseBody> executeRedoCommand() throws DukeException {
+        Outcome<LoadedTaskList> ready = requireTaskList();
+        if (ready.isFailure()) {
+            return Outcome.failure(ready);
+        }
+        TaskList taskList = ready.getValue().taskList;
 
-            return output.toString();
+        Outcome<Void> redone = taskList.redo();
+        if (redone.isFailure()) {
+            return Outcome.failure(redone);
         }
+        ready.getValue().storage.save(taskList);
+        return Outcome.success(ResponseBody.format(
+                "Got it! I've redone your last undone change.\nNow you have %d task(s) in your list.",
+                taskList.size()));
     }
 
-    private String executeExitCommand() {
-        isActive = false;
-        return "GoodBye! Hope to see you again!";
+    /**
+     * Helper method to save the TaskList, unless the changes are to be saved when a transaction is committed.
+     */
+    private static Outcome<Void> saveUnlessInTransaction(LoadedTaskList current) {
+        if (!current.taskList.isInTransaction()) {
+            try {
+                current.storage.save(current.taskList);
+            } catch (DukeException dukeException) {
+                return Outcome.failure(ErrorCode.STORAGE, dukeException.getMessage());
+            }
+        }
+        return Outcome.success();
     }
 
-    private String executeLoadCommand(LoadCommand loadCommand) throws DukeException {
+    private Outcome<ResponseBody> executeLoadCommand(LoadCommand loadCommand) throws DukeException {
         assert loadCommand != null;
-        assert loadCommand.getArgumentsUsed()[0] != null;
-        String saveFileName = loadCommand.getArgumentsUsed()[0];
+        String saveFileName = loadCommand.getFileName();
 
-        storage = new Storage(saveFileName);
-        taskList = storage.loadTaskList();
-        storageName.set(storage.getFileName());
+        if (isInTransaction()) {
+            return Outcome.failure(
+                    ErrorCode.TRANSACTION_IN_PROGRESS,
+                    "A transaction is in progress!\nUse commit or rollback before loading another list.");
+        }
+
+        // the current TaskList is only replaced once the new one has been loaded completely
+        Storage loadedStorage = new Storage(saveFileName);
+        TaskList loadedTaskList = loadedStorage.loadTaskList();
+        loadedTaskList.setHistoryLimit(historyLimit);
+        replaceTaskList(new LoadedTaskList(loadedStorage, loadedTaskList));
+        storageName = loadedStorage.getFileName();
+        for (Consumer<String> listener : storageNameListeners) {
+            listener.accept(storageName);
+        }
         // task list successfully loaded
-        return "Your TaskList was successfully loaded from: " + storage.getFileName();
+        return Outcome.success(
+                ResponseBody.format("Your TaskList was successfully loaded from: %s", loadedStorage.getFileName()));
+    }
+
+    /**
+     * Helper method to replace the current TaskList and its Storage, moving the listeners to the new TaskList and
+     * notifying them that all the Tasks of the old TaskList were removed, and all the Tasks of the new TaskList were
+     * added.
+     */
+    private synchronized void replaceTaskList(LoadedTaskList newLoaded) {
+        LoadedTaskList oldLoaded = loaded;
+        loaded = newLoaded;
+        TaskList oldTaskList = (oldLoaded == null) ? null : oldLoaded.taskList;
+        TaskList newTaskList = newLoaded.taskList;
+        for (TaskListListener listener : taskListListeners) {
+            if (oldTaskList != null) {
+                oldTaskList.removeListener(listener);
+                listener.onChange(TaskListChange.removed(0, oldTaskList.snapshot()));
+            }
+            newTaskList.addListener(listener);
+            listener.onChange(TaskListChange.added(0, newTaskList.snapshot()));
+        }
+    }
+
+    /**
+     * Adds a listener which is notified of each change made to the Tasks in the current TaskList, and of the
+     * current TaskList being replaced by another one which is loaded.
+     *
+     * @param listener The listener to notify, on the thread which gave Duke the command making the change
+     */
+    public synchronized void addTaskListListener(TaskListListener listener) {
+        assert listener != null;
+        taskListListeners.add(listener);
+        LoadedTaskList current = loaded;
+        if (current != null) {
+            current.taskList.addListener(listener);
+            listener.onChange(TaskListChange.added(0, current.taskList.snapshot()));
+        }
     }
 
-    private String executeSaveCommand(SaveCommand saveCommand) throws DukeException {
+    private Outcome<ResponseBody> executeSaveCommand(SaveCommand saveCommand) throws DukeException {
         assert saveCommand != null;
-        assert saveCommand.getArgumentsUsed()[0] != null;
-        String saveFileName = saveCommand.getArgumentsUsed()[0];
+        String saveFileName = saveCommand.getFileName();
+        Outcome<LoadedTaskList> ready = requireTaskList();
+        if (ready.isFailure()) {
+            return Outcome.failure(ready);
+        }
 
         Storage storage = new Storage(saveFileName);
-        storage.save(taskList);
+        storage.save(ready.getValue().taskList);
 
         // task list successfully loaded
-        return "Your TaskList was successfully saved to: " + storage.getFileName();
+        return Outcome.success(
+                ResponseBody.format("Your TaskList was successfully saved to: %s", storage.getFileName()));
     }
-}
 
+    /**
+     * A TaskList with the Storage it was loaded from, which it is saved to.
+     */
+    private static class LoadedTaskList {
+        private final Storage storage;
+        private final TaskList taskList;
+
+        private LoadedTaskList(Storage storage, TaskList taskList) {
+            this.storage = storage;
+            this.taskList = taskList;
+        }
+    }
+}
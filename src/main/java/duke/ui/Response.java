@@ -1,37 +1,56 @@
 package duke.ui;
 
-import duke.error.DukeException;
+import duke.error.ErrorCode;
+import duke.error.Outcome;
 
-import java.util.Optional;
+import java.io.IOException;
+import java.util.List;
 
 /**
  * A Response represents a Response from Dukes as a result of some user input, as well as some
  * information about the current State of Duke after trying to carry out the instruction the input.
+ *
+ * <p>The text of a Response is only rendered when it is asked for, so callers which only look at the
+ * outcome of a Command, or at the Tasks it returned, do not pay for formatting the text.</p>
  */
 public class Response {
-    private Optional<DukeException> dukeException;
-    private String message;
+    private ErrorCode errorCode;
+    private ResponseBody body;
     private boolean isActive;
+    // the rendered text of the Response, computed when first needed
+    private String message;
+    // the timings of a command which was not slow before rendering, to be finished with the time taken to render
+    private CommandTimings timings;
 
-    private Response(String message, DukeException dukeException, boolean isActive) {
-        assert message != null : "Response message cannot be null";
-        this.message = message;
-        this.dukeException = Optional.ofNullable(dukeException);
+    private Response(ResponseBody body, ErrorCode errorCode, boolean isActive) {
+        assert body != null : "Response body cannot be null";
+        this.body = body;
+        this.errorCode = errorCode;
         this.isActive = isActive;
     }
 
+    /**
+     * The enumeration of the kinds of content a Response can hold.
+     */
+    public enum Kind {
+        MESSAGE,
+        TASKS,
+        ERROR
+    }
+
     /**
      * Returns a Response from Duke if a Command is successfully executed.
      *
-     * <p>The Response contains the message Duke responds with, and the activity status of Duke.</p>
+     * <p>The Response contains the body of the message Duke responds with, and the activity status of
+     * Duke.</p>
      *
-     * @param message The message from Duke due to successfully executing a Command
+     * @param body The body of the message from Duke due to successfully executing a Command
      * @param isActive True if Duke is able to accept further Commands, false otherwise.
      * @return The Response from successfully executing a Command
      */
-    static Response fromString(String message, boolean isActive) {
-        assert message != null;
-        return new Response(message, null, isActive);
+    static Response fromBody(ResponseBody body, boolean isActive) {
+        assert body != null;
+        return new Response(body, null, isActive);
     }
 
 
@@ -41,22 +60,117 @@ public class Response {
      * <p>The Response contains the error message from Duke after an error occurs after user input, and
      * the activity status of Duke at the time of the Response.</p>
      *
-     * @param dukeException The DukeException thrown when the error occurs
+     * @param errorCode The kind of error which occurred
+     * @param message The message explaining the error
      * @param isActive True if Duke is able to respond to further Commands, false otherwise.
      * @return The Response due to the error that occurred in Duke.
      */
-    static Response fromError(duke.error.DukeException dukeException, boolean isActive) {
-        assert dukeException != null : "DukeException cannot be null for error Response";
-        return new Response(dukeException.getMessage(), dukeException, isActive);
+    public static Response fromError(ErrorCode errorCode, String message, boolean isActive) {
+        assert errorCode != null : "ErrorCode cannot be null for error Response";
+        assert message != null;
+        return new Response(ResponseBody.text(message), errorCode, isActive);
     }
 
     /**
-     * Returns true if the Response was a result of a DukeException, false otherwise.
+     * Returns a Response from Duke if a Command was not successfully executed, with the error from the
+     * failed Outcome of trying to execute it.
      *
-     * @return True if the Response was a result of a DukeException, False otherwise.
+     * @param failure The failed Outcome of trying to execute the Command
+     * @param isActive True if Duke is able to respond to further Commands, false otherwise.
+     * @return The Response due to the error that occurred in Duke.
+     */
+    static Response fromFailure(Outcome<?> failure, boolean isActive) {
+        assert failure.isFailure();
+        return fromError(failure.getErrorCode(), failure.getErrorMessage(), isActive);
+    }
+
+    /**
+     * Sets the timings of the command which resulted in the Response, which was not slow before the Response is
+     * rendered, to be finished when the Response is first rendered.
+     *
+     * @param timings The timings of the command
+     */
+    void setTimings(CommandTimings timings) {
+        this.timings = timings;
+    }
+
+    /**
+     * Returns true if the Response was a result of an error, false otherwise.
+     *
+     * @return True if the Response was a result of an error, False otherwise.
      */
     public boolean wasCausedByError() {
-        return dukeException.isPresent();
+        return errorCode != null;
+    }
+
+    /**
+     * Returns the kind of error the Response was a result of, if any.
+     *
+     * @return The ErrorCode of the error, or null if the Response was not a result of an error
+     */
+    public ErrorCode getErrorCode() {
+        return errorCode;
+    }
+
+    /**
+     * Returns the kind of content the Response holds.
+     *
+     * @return ERROR if the Response was a result of an error, TASKS if it shows Tasks, or MESSAGE otherwise
+     */
+    public Kind getKind() {
+        if (errorCode != null) {
+            return Kind.ERROR;
+        }
+        return body.getTasks() == null ? Kind.MESSAGE : Kind.TASKS;
+    }
+
+    /**
+     * Returns the snapshots of the Tasks shown in the Response, such as the results of a search.
+     *
+     * @return An unmodifiable List of the snapshots of the Tasks shown, which is empty if the Response does not
+     *         show Tasks
+     */
+    public List<TaskRecord> getTasks() {
+        List<TaskRecord> tasks = body.getTasks();
+        return tasks == null ? List.of() : tasks;
+    }
+
+    /**
+     * Returns the number of Tasks shown in the Response.
+     *
+     * @return The number of Tasks shown in the Response
+     */
+    public int getTaskCount() {
+        return getTasks().size();
+    }
+
+    /**
+     * Appends the text of the Response to the given Appendable, without building the whole text as a String.
+     *
+     * @param out The Appendable to append the text to
+     * @throws IOException when the text cannot be appended
+     */
+    public void renderTo(Appendable out) throws IOException {
+        assert out != null;
+        long startTime = System.nanoTime();
+        if (message != null) {
+            out.append(message);
+        } else {
+            body.renderTo(out);
+        }
+        finishTimings(startTime);
+    }
+
+    /**
+     * Helper method to finish the timings of the command with the time taken to render the Response, the first
+     * time it is rendered.
+     */
+    private void finishTimings(long renderStartTime) {
+        CommandTimings finishedTimings = timings;
+        if (finishedTimings != null) {
+            timings = null;
+            finishedTimings.finish(System.nanoTime() - renderStartTime);
+        }
     }
 
     /**
@@ -69,12 +183,23 @@ public class Response {
     }
 
     /**
-     * Returns the String representation of the Response.
+     * Returns the String representation of the Response, rendering it the first time it is asked for.
      *
      * @return the String representation of the Response.
      */
     @Override
     public String toString() {
+        if (message == null) {
+            long startTime = System.nanoTime();
+            StringBuilder text = new StringBuilder();
+            try {
+                body.renderTo(text);
+            } catch (IOException exception) {
+                throw new AssertionError("a StringBuilder cannot fail to append", exception);
+            }
+            message = text.toString();
+            finishTimings(startTime);
+        }
         return message;
     }
 }
\ No newline at end of file
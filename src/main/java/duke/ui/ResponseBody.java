@@ -0,0 +1,161 @@
+package duke.ui;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * The content of a Response from Duke, which is only rendered as text when it is needed.
+ *
+ * <p>A ResponseBody keeps what is needed to render the text, such as the Tasks found by a search, rather than
+ * the text itself, so that callers which do not display the Response do not pay for formatting it. Bodies which
+ * never change are shared between Responses.</p>
+ */
+abstract class ResponseBody {
+
+    /**
+     * Returns the body of a Response consisting of the given text.
+     *
+     * @param text The text of the Response
+     * @return The body of the Response
+     */
+    static ResponseBody text(String text) {
+        assert text != null;
+        return new Text(text);
+    }
+
+    /**
+     * Returns the body of a Response consisting of the given format pattern, filled in with the given arguments
+     * only when the Response is rendered.
+     *
+     * @param pattern The format pattern, as used by String.format
+     * @param arguments The arguments to fill in the pattern with
+     * @return The body of the Response
+     */
+    static ResponseBody format(String pattern, Object... arguments) {
+        assert pattern != null;
+        return new Formatted(pattern, arguments);
+    }
+
+    /**
+     * Returns the body of a Response consisting of the given header, followed by the given Tasks, one on each
+     * line and numbered from the given number.
+     *
+     * @param header The header shown before the Tasks
+     * @param tasks The snapshots of the Tasks
+     * @param firstNumber The number of the first Task
+     * @return The body of the Response
+     */
+    static ResponseBody tasks(ResponseBody header, List<TaskRecord> tasks, int firstNumber) {
+        assert header != null;
+        assert tasks != null;
+        return new NumberedTasks(header, tasks, firstNumber);
+    }
+
+    /**
+     * Appends the text of the body to the given Appendable.
+     *
+     * @param out The Appendable to append the text to
+     * @throws IOException when the text cannot be appended
+     */
+    abstract void renderTo(Appendable out) throws IOException;
+
+    /**
+     * Returns the snapshots of the Tasks shown in the body.
+     *
+     * @return An unmodifiable List of the snapshots of the Tasks shown, or null if the body does not show Tasks
+     */
+    List<TaskRecord> getTasks() {
+        return null;
+    }
+
+    /**
+     * A body consisting of fixed text.
+     */
+    private static class Text extends ResponseBody {
+        private final String text;
+
+        private Text(String text) {
+            this.text = text;
+        }
+
+        @Override
+        void renderTo(Appendable out) throws IOException {
+            out.append(text);
+        }
+    }
+
+    /**
+     * A body consisting of a format pattern and its arguments.
+     */
+    private static class Formatted extends ResponseBody {
+        private final String pattern;
+        private final Object[] arguments;
+
+        private Formatted(String pattern, Object[] arguments) {
+            this.pattern = pattern;
+            this.arguments = arguments;
+        }
+
+        @Override
+        void renderTo(Appendable out) throws IOException {
+            out.append(String.format(pattern, arguments));
+        }
+    }
+
+    /**
+     * A body consisting of a header followed by numbered Tasks.
+     */
+    private static class NumberedTasks extends ResponseBody {
+        private final ResponseBody header;
+        private final List<TaskRecord> tasks;
+        private final int firstNumber;
+
+        private NumberedTasks(ResponseBody header, List<TaskRecord> tasks, int firstNumber) {
+            assert firstNumber >= 0;
+            this.header = header;
+            this.tasks = List.copyOf(tasks);
+            this.firstNumber = firstNumber;
+        }
+
+        /**
+         * Appends the header, then each Task on a new line, numbered and padded with zeros by hand to the width of
+         * the largest number, so that no format pattern needs to be built or parsed for each Task.
+         */
+        @Override
+        void renderTo(Appendable out) throws IOException {
+            header.renderTo(out);
+            int width = countDigits(firstNumber + tasks.size() - 1);
+            char[] digits = new char[width];
+            int number = firstNumber;
+            for (TaskRecord task : tasks) {
+                out.append('\n');
+                int remaining = number;
+                for (int i = width - 1; i >= 0; i--) {
+                    digits[i] = (char) ('0' + remaining % 10);
+                    remaining /= 10;
+                }
+                for (char digit : digits) {
+                    out.append(digit);
+                }
+                out.append(". ");
+                task.renderTo(out);
+                number++;
+            }
+        }
+
+        @Override
+        List<TaskRecord> getTasks() {
+            return tasks;
+        }
+
+        private static int countDigits(int number) {
+            assert number >= 0;
+            int digits = 1;
+            while (number >= 10) {
+                number /= 10;
+                digits++;
+            }
+            return digits;
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package duke.ui;
+
+import duke.tasklist.Deadline;
+import duke.tasklist.Event;
+import duke.tasklist.Task;
+
+import java.io.IOException;
+
+/**
+ * A snapshot of a Task, returned by Duke to programs which use it directly rather than through text.
+ *
+ * <p>A TaskRecord does not change when the Task it was taken from is changed afterwards, so it can be kept,
+ * or handed to another thread, after the TaskList has moved on.</p>
+ */
+public final class TaskRecord {
+    private final Kind kind;
+    private final String description;
+    private final boolean isComplete;
+    private final String time;
+
+    private TaskRecord(Kind kind, String description, boolean isComplete, String time) {
+        this.kind = kind;
+        this.description = description;
+        this.isComplete = isComplete;
+        this.time = time;
+    }
+
+    /**
+     * The enumeration of the kinds of Tasks, with the symbol used for each in the text shown to the user.
+     */
+    public enum Kind {
+        TODO('T'),
+        DEADLINE('D'),
+        EVENT('E');
+
+        private final char symbol;
+
+        Kind(char symbol) {
+            this.symbol = symbol;
+        }
+
+        /**
+         * Returns the symbol used for Tasks of this kind in the text shown to the user.
+         *
+         * @return The symbol of this kind of Task
+         */
+        public char getSymbol() {
+            return symbol;
+        }
+    }
+
+    /**
+     * Returns a snapshot of the given Task as it is now.
+     *
+     * @param task The Task to take a snapshot of
+     * @return The snapshot of the Task
+     */
+    static TaskRecord of(Task task) {
+        assert task != null;
+        if (task instanceof Deadline) {
+            return new TaskRecord(Kind.DEADLINE, task.getDescription(), task.isComplete(), ((Deadline) task).time);
+        } else if (task instanceof Event) {
+            return new TaskRecord(Kind.EVENT, task.getDescription(), task.isComplete(), ((Event) task).time);
+        } else {
+            return new TaskRecord(Kind.TODO, task.getDescription(), task.isComplete(), null);
+        }
+    }
+
+    /**
+     * Returns the kind of the Task.
+     *
+     * @return The kind of the Task
+     */
+    public Kind getKind() {
+        return kind;
+    }
+
+    /**
+     * Returns the description of the Task.
+     *
+     * @return The description of the Task
+     */
+    public String getDescription() {
+        return description;
+    }
+
+    /**
+     * Returns true if the Task was complete when the snapshot was taken, false otherwise.
+     *
+     * @return True if the Task was complete, false otherwise
+     */
+    public boolean isComplete() {
+        return isComplete;
+    }
+
+    /**
+     * Returns the time of the Task, for deadlines and events.
+     *
+     * @return The time the Task is due by or happens at, or null if the Task is a todo
+     */
+    public String getTime() {
+        return time;
+    }
+
+    /**
+     * Appends the text shown to the user for the Task, which is the same as the text of the Task itself.
+     *
+     * @param out The Appendable to append the text to
+     * @throws IOException when the text cannot be appended
+     */
+    void renderTo(Appendable out) throws IOException {
+        out.append('[').append(kind.getSymbol()).append("][").append(isComplete ? '✓' : '✗').append("] ")
+                .append(description);
+        if (kind == Kind.DEADLINE) {
+            out.append(" (by: ").append(time).append(')');
+        } else if (kind == Kind.EVENT) {
+            out.append(" (at: ").append(time).append(')');
+        }
+    }
+
+    /**
+     * Returns the string representation of the Task, as shown to the user.
+     *
+     * @return The string representation of the Task
+     */
+    @Override
+    public String toString() {
+        StringBuilder text = new StringBuilder();
+        try {
+            renderTo(text);
+        } catch (IOException exception) {
+            throw new AssertionError("a StringBuilder cannot fail to append", exception);
+        }
+        return text.toString();
+    }
+}
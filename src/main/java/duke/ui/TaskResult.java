@@ -0,0 +1,101 @@
+package duke.ui;
+
+import java.util.List;
+
+/**
+ * The result of a change to, or a query of, the TaskList made through Duke's programmatic methods: the Tasks
+ * changed or found, and the number of Tasks in the TaskList afterwards.
+ */
+public final class TaskResult {
+    private final List<TaskRecord> tasks;
+    private final int firstNumber;
+    private final int taskCount;
+    private final int page;
+    private final int pageCount;
+
+    /**
+     * Constructs the result of a change or query.
+     *
+     * @param tasks The snapshots of the Tasks changed or found
+     * @param firstNumber The number shown beside the first of the Tasks
+     * @param taskCount The number of Tasks in the TaskList afterwards
+     * @param page The page of Tasks the result holds, starting from 1
+     * @param pageCount The number of pages of Tasks
+     */
+    TaskResult(List<TaskRecord> tasks, int firstNumber, int taskCount, int page, int pageCount) {
+        assert tasks != null;
+        this.tasks = List.copyOf(tasks);
+        this.firstNumber = firstNumber;
+        this.taskCount = taskCount;
+        this.page = page;
+        this.pageCount = pageCount;
+    }
+
+    /**
+     * Returns the result of a change to a single Task.
+     *
+     * @param task The snapshot of the Task changed
+     * @param taskNumber The number of the Task in the TaskList
+     * @param taskCount The number of Tasks in the TaskList afterwards
+     * @return The result of the change
+     */
+    static TaskResult of(TaskRecord task, int taskNumber, int taskCount) {
+        return new TaskResult(List.of(task), taskNumber, taskCount, 1, 1);
+    }
+
+    /**
+     * Returns the snapshots of the Tasks changed or found, in order.
+     *
+     * @return An unmodifiable List of the snapshots of the Tasks
+     */
+    public List<TaskRecord> getTasks() {
+        return tasks;
+    }
+
+    /**
+     * Returns the snapshot of the Task changed, for results of changes to a single Task.
+     *
+     * @return The snapshot of the first Task of the result
+     */
+    public TaskRecord getTask() {
+        assert !tasks.isEmpty();
+        return tasks.get(0);
+    }
+
+    /**
+     * Returns the number shown beside the first Task of the result, which is its number in the TaskList for
+     * changes and pages of the TaskList, and 1 for the results of searches.
+     *
+     * @return The number of the first Task of the result
+     */
+    public int getFirstNumber() {
+        return firstNumber;
+    }
+
+    /**
+     * Returns the number of Tasks in the TaskList after the change or query.
+     *
+     * @return The number of Tasks in the TaskList
+     */
+    public int getTaskCount() {
+        return taskCount;
+    }
+
+    /**
+     * Returns the page of Tasks the result holds, starting from 1.
+     *
+     * @return The page of Tasks, which is 1 for results which are not pages of the TaskList
+     */
+    public int getPage() {
+        return page;
+    }
+
+    /**
+     * Returns the number of pages the TaskList was split into.
+     *
+     * @return The number of pages, which is 1 for results which are not pages of the TaskList
+     */
+    public int getPageCount() {
+        return pageCount;
+    }
+}
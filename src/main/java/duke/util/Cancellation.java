@@ -0,0 +1,36 @@
+package duke.util;
+
+import java.util.concurrent.CancellationException;
+
+/**
+ * Utility methods for stopping long-running work when the thread doing it is interrupted.
+ */
+public class Cancellation {
+
+    /**
+     * Throws a CancellationException if the current thread has been interrupted.
+     *
+     * <p>Long-running loops call this between steps, so that they can be cancelled by interrupting the thread
+     * running them without leaving their results half-built.</p>
+     *
+     * @throws CancellationException if the current thread has been interrupted
+     */
+    public static void checkpoint() {
+        checkpoint(Thread.currentThread());
+    }
+
+    /**
+     * Throws a CancellationException if the given thread has been interrupted.
+     *
+     * <p>Work split over several threads on behalf of another thread calls this with the thread it is done for,
+     * so that interrupting that thread cancels all of the work.</p>
+     *
+     * @param thread The thread the work is done for
+     * @throws CancellationException if the thread has been interrupted
+     */
+    public static void checkpoint(Thread thread) {
+        if (thread.isInterrupted()) {
+            throw new CancellationException("interrupted");
+        }
+    }
+}
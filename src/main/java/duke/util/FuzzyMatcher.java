@@ -0,0 +1,98 @@
+package duke.util;
+
+/**
+ * Compares words with a fixed keyword by their Levenshtein distance, without allocating memory for each word.
+ *
+ * <p>The two rows of the distance table are sized for the keyword and reused for every word compared, so a
+ * FuzzyMatcher must not be used by more than one thread at a time. Words are given as ranges of a char array,
+ * so that they can be compared where they are stored.</p>
+ */
+public class FuzzyMatcher {
+    private final char[] keyword;
+    private final int bound;
+    private int[] previous;
+    private int[] current;
+
+    /**
+     * Constructs a FuzzyMatcher which compares words with the given keyword, up to the given distance.
+     *
+     * @param keyword The keyword to compare words with
+     * @param bound The largest distance of interest
+     */
+    public FuzzyMatcher(char[] keyword, int bound) {
+        assert keyword != null;
+        assert bound >= 0;
+        this.keyword = keyword;
+        this.bound = bound;
+        previous = new int[keyword.length + 1];
+        current = new int[keyword.length + 1];
+    }
+
+    /**
+     * Returns true if the word in the given range of the given text is within the bound of the keyword.
+     *
+     * @param text The text holding the word
+     * @param from The position of the first character of the word
+     * @param to The position after the last character of the word
+     * @return True if the distance between the word and the keyword is at most the bound, false otherwise
+     */
+    public boolean matches(char[] text, int from, int to) {
+        return distance(text, from, to) <= bound;
+    }
+
+    /**
+     * Returns the Levenshtein distance between the word in the given range of the given text and the keyword, if
+     * it is at most the bound.
+     *
+     * <p>Only the cells of the distance table within the bound of its diagonal are computed, and the
+     * computation stops as soon as every distance in a row exceeds the bound, so comparing against a small
+     * bound takes time proportional to the length of the words rather than the product of their lengths.</p>
+     *
+     * @param text The text holding the word
+     * @param from The position of the first character of the word
+     * @param to The position after the last character of the word
+     * @return The Levenshtein distance, or bound + 1 if the distance is greater than the bound
+     */
+    public int distance(char[] text, int from, int to) {
+        int wordLen = to - from;
+        int keywordLen = keyword.length;
+        // cells outside the band around the diagonal are treated as exceeding the bound
+        int outOfBound = bound + 1;
+        if (Math.abs(wordLen - keywordLen) > bound) {
+            return outOfBound;
+        }
+
+        for (int j = 0; j <= keywordLen; j++) {
+            previous[j] = Math.min(j, outOfBound);
+        }
+
+        for (int i = 1; i <= wordLen; i++) {
+            int bandFrom = Math.max(1, i - bound);
+            int bandTo = Math.min(keywordLen, i + bound);
+            current[0] = Math.min(i, outOfBound);
+            if (bandFrom > 1) {
+                current[bandFrom - 1] = outOfBound;
+            }
+
+            char character = text[from + i - 1];
+            int rowMinimum = current[0];
+            for (int j = bandFrom; j <= bandTo; j++) {
+                int cost = character == keyword[j - 1] ? 0 : 1;
+                int distance = Math.min(previous[j - 1] + cost, Math.min(previous[j], current[j - 1]) + 1);
+                current[j] = Math.min(distance, outOfBound);
+                rowMinimum = Math.min(rowMinimum, current[j]);
+            }
+            if (bandTo < keywordLen) {
+                current[bandTo + 1] = outOfBound;
+            }
+            if (rowMinimum > bound) {
+                return outOfBound;
+            }
+
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[keywordLen];
+    }
+}
@@ -37,7 +37,7 @@ public class Match {
      * @return True if the levenshtein distance between the two provided words is within the threshold.
      */
     public static boolean matchFuzzy(String word1, String word2, int threshold) {
-        return levenshteinDistance(word1, word1.length(), word2, word2.length()) <= threshold;
+        return boundedLevenshteinDistance(word1, word2, threshold) <= threshold;
     }
 
     /**
@@ -54,20 +54,44 @@ public class Match {
     }
 
     /**
-     * Calculate the Levenshtein distance between two words.
+     * Returns the Levenshtein distance between two words, if it is at most the given bound.
+     *
+     * <p>Only the cells of the distance table within the bound of its diagonal are computed, and the
+     * computation stops as soon as every distance in a row exceeds the bound, so comparing against a small
+     * bound takes time proportional to the length of the words rather than the product of their lengths.</p>
+     *
+     * @param word The word to compare with other
+     * @param other The word to compare with word
+     * @param bound The largest distance of interest
+     * @return The Levenshtein distance between the words, or bound + 1 if the distance is greater than the bound
      */
-    // Reused from https://en.wikipedia.org/wiki/Levenshtein_distance#Recursive with minor modifications
-    private static int levenshteinDistance(String word, int wordLen, String other, int otherLen) {
-        if (wordLen == 0 || otherLen == 0) {
-            return Math.max(wordLen, otherLen);
-        }
-
-        int cost = word.charAt(wordLen - 1) == other.charAt(otherLen - 1) ? 0 : 1;
+    public static int boundedLevenshteinDistance(String word, String other, int bound) {
+        assert bound >= 0;
+        return new FuzzyMatcher(other.toCharArray(), bound).distance(word.toCharArray(), 0, word.length());
+    }
 
-        int deleteFromWord = levenshteinDistance(word, wordLen - 1, other, otherLen) + 1;
-        int deleteFromOther = levenshteinDistance(word, wordLen, other, otherLen - 1) + 1;
-        int deleteFromBoth = levenshteinDistance(word, wordLen - 1, other, otherLen - 1) + cost;
+    /**
+     * Returns the given character with its case folded, so that two characters which are equal ignoring case
+     * have the same folded character, as compared by String.equalsIgnoreCase.
+     *
+     * @param character The character to fold
+     * @return The character with its case folded
+     */
+    public static char foldCase(char character) {
+        return Character.toLowerCase(Character.toUpperCase(character));
+    }
 
-        return Math.min(deleteFromWord, Math.min(deleteFromOther, deleteFromBoth));
+    /**
+     * Returns the characters of the given word with their case folded.
+     *
+     * @param word The word to fold
+     * @return A new array of the characters of the word, with their case folded
+     */
+    public static char[] foldCase(String word) {
+        char[] folded = new char[word.length()];
+        for (int i = 0; i < folded.length; i++) {
+            folded[i] = foldCase(word.charAt(i));
+        }
+        return folded;
     }
 }
@@ -0,0 +1,196 @@
+package duke.util;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * A prefix tree of words, used to find the words which start with a given prefix.
+ *
+ * <p>The same word can be added more than once, and is counted each time. Completions are ranked by how
+ * many times their word was added, so that the most common words are suggested first. Each node keeps the
+ * highest count in its subtree, so the best completions are found without visiting every word which starts
+ * with the prefix.</p>
+ */
+public class PrefixTrie {
+    private final Node root;
+
+    /**
+     * Constructs an empty PrefixTrie.
+     */
+    public PrefixTrie() {
+        root = new Node();
+    }
+
+    /**
+     * Adds one occurrence of the given word to the PrefixTrie.
+     *
+     * @param word The word to add
+     */
+    public void add(String word) {
+        assert word != null;
+        Node[] path = new Node[word.length() + 1];
+        Node node = root;
+        path[0] = node;
+        for (int i = 0; i < word.length(); i++) {
+            node = node.children.computeIfAbsent(word.charAt(i), character -> new Node());
+            path[i + 1] = node;
+        }
+        node.count++;
+        for (Node ancestor : path) {
+            ancestor.bestCount = Math.max(ancestor.bestCount, node.count);
+        }
+    }
+
+    /**
+     * Removes one occurrence of the given word from the PrefixTrie, if it was added.
+     *
+     * @param word The word to remove
+     * @return True if an occurrence of the word was removed, false otherwise
+     */
+    public boolean remove(String word) {
+        assert word != null;
+        Node[] path = new Node[word.length() + 1];
+        Node node = root;
+        path[0] = node;
+        for (int i = 0; i < word.length(); i++) {
+            node = node.children.get(word.charAt(i));
+            if (node == null) {
+                return false;
+            }
+            path[i + 1] = node;
+        }
+        if (node.count == 0) {
+            return false;
+        }
+
+        node.count--;
+        // recompute the best counts from the word back up to the root, pruning nodes left without words
+        for (int i = word.length(); i >= 0; i--) {
+            Node current = path[i];
+            current.updateBestCount();
+            if (i > 0 && current.bestCount == 0) {
+                path[i - 1].children.remove(word.charAt(i - 1));
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if at least one occurrence of the given word is in the PrefixTrie.
+     *
+     * @param word The word to look for
+     * @return True if the word is in the PrefixTrie, false otherwise
+     */
+    public boolean contains(String word) {
+        Node node = find(word);
+        return node != null && node.count > 0;
+    }
+
+    /**
+     * Returns up to the given number of words which start with the given prefix, with the words added most
+     * often first, and words added equally often in alphabetical order.
+     *
+     * @param prefix The prefix the words should start with
+     * @param limit The maximum number of words to return
+     * @return A List of the words which start with the prefix
+     */
+    public List<String> complete(String prefix, int limit) {
+        assert prefix != null;
+        assert limit >= 0;
+        ArrayList<String> completions = new ArrayList<String>(Math.min(limit, 16));
+        Node start = find(prefix);
+        if (start == null || limit == 0) {
+            return completions;
+        }
+
+        // best-first search, where a subtree is ranked by the most common word in it
+        PriorityQueue<Candidate> candidates = new PriorityQueue<Candidate>();
+        candidates.add(new Candidate(prefix, start, false));
+        while (!candidates.isEmpty() && completions.size() < limit) {
+            Candidate candidate = candidates.poll();
+            if (candidate.isWord) {
+                completions.add(candidate.word);
+                continue;
+            }
+            Node node = candidate.node;
+            if (node.count > 0) {
+                candidates.add(new Candidate(candidate.word, node, true));
+            }
+            for (Map.Entry<Character, Node> child : node.children.entrySet()) {
+                candidates.add(new Candidate(candidate.word + child.getKey(), child.getValue(), false));
+            }
+        }
+        return completions;
+    }
+
+    /**
+     * Removes all words from the PrefixTrie.
+     */
+    public void clear() {
+        root.children.clear();
+        root.count = 0;
+        root.bestCount = 0;
+    }
+
+    /**
+     * Helper method to find the node reached by following the given prefix from the root, if any.
+     */
+    private Node find(String prefix) {
+        Node node = root;
+        for (int i = 0; i < prefix.length() && node != null; i++) {
+            node = node.children.get(prefix.charAt(i));
+        }
+        return node;
+    }
+
+    /**
+     * A node of the PrefixTrie, reached by following the characters of a prefix from the root.
+     */
+    private static class Node {
+        private final HashMap<Character, Node> children = new HashMap<Character, Node>(4);
+        // the number of times the prefix leading to this node was added as a word
+        private int count;
+        // the highest count of any node in the subtree of this node
+        private int bestCount;
+
+        private void updateBestCount() {
+            int best = count;
+            for (Node child : children.values()) {
+                best = Math.max(best, child.bestCount);
+            }
+            bestCount = best;
+        }
+    }
+
+    /**
+     * A word, or a subtree of words, waiting to be visited while searching for completions.
+     */
+    private static class Candidate implements Comparable<Candidate> {
+        private final String word;
+        private final Node node;
+        private final boolean isWord;
+
+        private Candidate(String word, Node node, boolean isWord) {
+            this.word = word;
+            this.node = node;
+            this.isWord = isWord;
+        }
+
+        private int getRank() {
+            return isWord ? node.count : node.bestCount;
+        }
+
+        @Override
+        public int compareTo(Candidate other) {
+            if (getRank() != other.getRank()) {
+                return Integer.compare(other.getRank(), getRank());
+            }
+            // the subtrees waiting to be visited never overlap, so every word in the subtree of a smaller
+            // prefix comes before every word in the subtree of a larger prefix
+            return word.compareTo(other.word);
+        }
+    }
+}
@@ -3,12 +3,17 @@ import org.junit.jupiter.api.Test;
 import duke.command.Parser;
 
 import duke.error.DukeException;
+import duke.error.ErrorCode;
 
 import duke.command.AddTaskCommand;
+import duke.command.DeleteTaskCommand;
 import duke.command.ShowListCommand;
 import duke.command.ExitCommand;
 
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -119,4 +124,61 @@ public class ParserTest {
             fail("Should return without formatting the time argument into dd/MM/yyyy HHmm");
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Test that the parseAsCommand method converts the arguments to the types of their parameters.
+     */
+    @Test
+    public void parseAsCommand_typedArguments_success() {
+        try {
+            assertEquals(12, ((DeleteTaskCommand) Parser.parseAsCommand("delete 12")).getTaskNumber());
+
+            AddTaskCommand formatted = (AddTaskCommand) Parser.parseAsCommand("deadline a task /by 12/12/1212 1212");
+            assertEquals("a task", formatted.getDescription());
+            assertEquals(1212, formatted.getDateTime().getYear());
+
+            AddTaskCommand unformatted = (AddTaskCommand) Parser.parseAsCommand("event a task /at noon /at home");
+            assertEquals("noon /at home", unformatted.getTime());
+            assertNull(unformatted.getDateTime());
+        } catch (DukeException dukeException) {
+            fail("Should return a command with the converted arguments");
+        }
+    }
+
+    /**
+     * Test that the parseAsCommand method throws a DukeIncorrectParameterTypeException when an argument
+     * cannot be converted to the type of its parameter.
+     */
+    @Test
+    public void parseAsCommand_nonIntegerTaskNumber_exceptionThrown() {
+        assertThrows(
+                duke.command.DukeIncorrectParameterTypeException.class, () -> Parser.parseAsCommand("done a"));
+        assertThrows(
+                duke.command.DukeIncorrectParameterTypeException.class, () -> Parser.parseAsCommand("delete 1 2"));
+    }
+
+    /**
+     * Test that the tryParseAsCommand method reports invalid input through its Outcome, with the ErrorCode of
+     * the error which occurred.
+     */
+    @Test
+    public void tryParseAsCommand_invalidInput_failureReturned() {
+        assertEquals(ErrorCode.MISSING_COMMAND, Parser.tryParseAsCommand("  ").getErrorCode());
+        assertEquals(ErrorCode.UNKNOWN_COMMAND, Parser.tryParseAsCommand("blah").getErrorCode());
+        assertEquals(ErrorCode.MISSING_ARGUMENT, Parser.tryParseAsCommand("deadline /by").getErrorCode());
+        assertEquals(ErrorCode.INCORRECT_PARAMETER_TYPE, Parser.tryParseAsCommand("done a").getErrorCode());
+        assertTrue(Parser.tryParseAsCommand("list").isSuccess());
+    }
+
+    /**
+     * Test that the suggestCommandWords method suggests the command words closest to a mistyped command word.
+     */
+    @Test
+    public void suggestCommandWords_mistypedCommandWord_closestSuggested() {
+        assertEquals(List.of("deadline"), Parser.suggestCommandWords("deAdline", 3));
+        assertEquals(List.of("done", "todo"), Parser.suggestCommandWords("dono", 3));
+        assertEquals(List.of("done"), Parser.suggestCommandWords("dono", 1));
+        assertEquals(List.of("delete"), Parser.suggestCommandWords("dleete", 3));
+        assertTrue(Parser.suggestCommandWords("ddasd", 3).isEmpty());
+    }
+}
@@ -0,0 +1,171 @@
+package duke.tasklist;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Class to test that a TaskList can be read by several threads while another thread changes it.
+ */
+public class TaskListTest {
+    private static final int READER_COUNT = 8;
+    private static final int TASK_COUNT = 2000;
+    private static final int CHANGE_COUNT = 20_000;
+
+    /**
+     * Test that readers searching and listing a TaskList while a writer adds, completes, removes and restores
+     * Tasks only ever see the TaskList as it was between two changes.
+     */
+    @Test
+    public void snapshot_readersDuringWrites_consistentTasksSeen() throws InterruptedException {
+        TaskList tasks = new TaskList();
+        tasks.setHistoryLimit(10);
+        AtomicReference<Throwable> failure = new AtomicReference<Throwable>();
+        CountDownLatch started = new CountDownLatch(READER_COUNT + 1);
+        CountDownLatch written = new CountDownLatch(1);
+
+        Thread writer = new Thread(() -> {
+            started.countDown();
+            try {
+                started.await();
+                for (int i = 0; i < TASK_COUNT; i++) {
+                    tasks.add(new ToDo("task " + i + (i % 2 == 0 ? " even" : " odd")));
+                    if (i % 10 == 0) {
+                        tasks.complete(i + 1);
+                    }
+                    if (i % 5 == 0) {
+                        // removes the Task just added, then puts it back where it was
+                        tasks.delete(i + 1);
+                        tasks.undo();
+                    }
+                }
+            } catch (Throwable throwable) {
+                failure.compareAndSet(null, throwable);
+            } finally {
+                written.countDown();
+            }
+        });
+
+        List<Thread> readers = new ArrayList<Thread>();
+        for (int r = 0; r < READER_COUNT; r++) {
+            Thread reader = new Thread(() -> {
+                started.countDown();
+                try {
+                    started.await();
+                    while (written.getCount() > 0) {
+                        checkSnapshot(tasks.snapshot());
+                        for (Task task : tasks.search("even")) {
+                            assertTrue(task.getDescription().endsWith(" even"));
+                        }
+                        for (Task task : tasks.searchIncrementally("task 1")) {
+                            assertTrue(task.getDescription().startsWith("task 1"));
+                        }
+                    }
+                } catch (Throwable throwable) {
+                    failure.compareAndSet(null, throwable);
+                }
+            });
+            readers.add(reader);
+            reader.start();
+        }
+        writer.start();
+
+        writer.join();
+        for (Thread reader : readers) {
+            reader.join();
+        }
+        assertNull(failure.get());
+
+        List<Task> finalTasks = tasks.snapshot();
+        checkSnapshot(finalTasks);
+        assertEquals(TASK_COUNT, finalTasks.size());
+        assertEquals(TASK_COUNT / 2, tasks.search("even").size());
+        int completedCount = 0;
+        for (Task task : finalTasks) {
+            completedCount += task.isComplete() ? 1 : 0;
+        }
+        assertEquals(TASK_COUNT / 10, completedCount);
+    }
+
+    /**
+     * Test that searches split over several threads find the same Tasks, in the same order, as searches on the
+     * calling thread.
+     */
+    @Test
+    public void search_parallelSearch_sameResultsInOrder() {
+        TaskList tasks = new TaskList();
+        for (int i = 0; i < TASK_COUNT; i++) {
+            tasks.add(new ToDo("task " + i + (i % 3 == 0 ? " shopping" : " reading")));
+        }
+        List<Task> sequentialResults = tasks.search("shopping");
+        List<Task> sequentialRelaxedResults = tasks.relaxedSearch("shoping");
+
+        tasks.setParallelSearch(1, 7);
+        assertEquals(sequentialResults, tasks.search("shopping"));
+        assertEquals(sequentialRelaxedResults, tasks.relaxedSearch("shoping"));
+        assertEquals((TASK_COUNT + 2) / 3, sequentialResults.size());
+    }
+
+    /**
+     * Test that a TaskList has the same Tasks as an ArrayList given the same random changes, spread over several
+     * chunks, and that each snapshot keeps the Tasks it had when it was taken.
+     */
+    @Test
+    public void snapshot_randomChanges_sameAsArrayList() {
+        TaskList tasks = new TaskList();
+        tasks.setHistoryLimit(CHANGE_COUNT);
+        ArrayList<Task> expected = new ArrayList<Task>();
+        // the Tasks deleted, with where they were, most recent last, to put them back when undone
+        ArrayDeque<Object[]> history = new ArrayDeque<Object[]>();
+        List<List<Task>> snapshots = new ArrayList<List<Task>>();
+        List<List<Task>> expectedSnapshots = new ArrayList<List<Task>>();
+        Random random = new Random(42);
+
+        for (int i = 0; i < CHANGE_COUNT; i++) {
+            int change = random.nextInt(10);
+            if (change < 5 || expected.isEmpty()) {
+                expected.add(tasks.add(new ToDo("task " + i)));
+                history.addLast(new Object[] {expected.size() - 1, null});
+            } else if (change < 8) {
+                int index = random.nextInt(expected.size());
+                Task deleted = expected.remove(index);
+                assertEquals(deleted, tasks.delete(index + 1).getValue());
+                history.addLast(new Object[] {index, deleted});
+            } else if (!history.isEmpty()) {
+                Object[] undone = history.removeLast();
+                assertTrue(tasks.undo().isSuccess());
+                if (undone[1] == null) {
+                    expected.remove((int) undone[0]);
+                } else {
+                    expected.add((int) undone[0], (Task) undone[1]);
+                }
+            }
+            if (i % 1000 == 0) {
+                snapshots.add(tasks.snapshot());
+                expectedSnapshots.add(new ArrayList<Task>(expected));
+            }
+        }
+
+        assertEquals(expected, tasks.snapshot());
+        assertEquals(expected, new ArrayList<Task>(tasks.snapshot()));
+        assertEquals(expectedSnapshots, snapshots);
+    }
+
+    /**
+     * Helper method to check that the Tasks seen are the Tasks added so far, in the order they were added.
+     */
+    private static void checkSnapshot(List<Task> snapshot) {
+        for (int i = 0; i < snapshot.size(); i++) {
+            assertTrue(snapshot.get(i).getDescription().startsWith("task " + i + " "));
+        }
+    }
+}
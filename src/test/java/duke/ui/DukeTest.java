@@ -4,7 +4,29 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import duke.error.ErrorCode;
+import duke.error.Outcome;
+import duke.io.Storage;
+import duke.metrics.Metrics;
+import duke.metrics.SlowCommandLog;
+import duke.tasklist.Deadline;
+import duke.tasklist.TaskListChange;
+import duke.tasklist.ToDo;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
@@ -220,4 +242,384 @@ public class DukeTest {
         assertFalse(duke.getResponse("delete 1").wasCausedByError());
         assertFalse(duke.getResponse("delete 1").wasCausedByError());
     }
-}
\ No newline at end of file
+
+    /**
+     * Test that changes made during a transaction are discarded when the transaction is rolled back.
+     */
+    @Test
+    public void getResponse_rollbackTransaction_changesDiscarded() {
+        duke.getResponse("todo a");
+
+        assertFalse(duke.getResponse("begin").wasCausedByError());
+        duke.getResponse("todo b");
+        duke.getResponse("done 1");
+        duke.getResponse("delete 1");
+        assertFalse(duke.getResponse("rollback").wasCausedByError());
+
+        // only the task added before the transaction remains
+        assertFalse(duke.getResponse("delete 1").wasCausedByError());
+        assertTrue(duke.getResponse("delete 1").wasCausedByError());
+    }
+
+    /**
+     * Test that changes made during a transaction are only saved when the transaction is committed.
+     */
+    @Test
+    public void getResponse_commitTransaction_changesSaved() {
+        assertFalse(duke.getResponse("begin").wasCausedByError());
+        duke.getResponse("todo a");
+        duke.getResponse("todo b");
+
+        // uncommitted changes are not saved
+        setUpDuke();
+        assertTrue(duke.getResponse("delete 1").wasCausedByError());
+
+        assertFalse(duke.getResponse("begin").wasCausedByError());
+        duke.getResponse("todo a");
+        duke.getResponse("todo b");
+        assertFalse(duke.getResponse("commit").wasCausedByError());
+
+        setUpDuke();
+        assertFalse(duke.getResponse("delete 2").wasCausedByError());
+        assertFalse(duke.getResponse("delete 1").wasCausedByError());
+    }
+
+    /**
+     * Test that transaction commands given in the wrong order result in an error Response from Duke.
+     */
+    @Test
+    public void getResponse_invalidTransactionCommands_responseCausedByError() {
+        assertTrue(duke.getResponse("commit").wasCausedByError());
+        assertTrue(duke.getResponse("rollback").wasCausedByError());
+        assertFalse(duke.getResponse("begin").wasCausedByError());
+        assertTrue(duke.getResponse("begin").wasCausedByError());
+        assertTrue(duke.getResponse("load DukeTestSave01").wasCausedByError());
+        assertFalse(duke.getResponse("rollback").wasCausedByError());
+    }
+
+    /**
+     * Test that a transaction which cannot be saved is not committed, and can still be rolled back, and that other
+     * changes which cannot be saved are reported.
+     *
+     * <p>The save file is replaced by a folder which is not empty, so that nothing can be moved over it, since
+     * folder permissions do not stop every user from writing.</p>
+     */
+    @Test
+    public void getResponse_saveFileNotWritable_commitFailsAndRollbackWorks() throws IOException {
+        Path saveFolder = Paths.get(URLDecoder.decode(new File(Storage.class.getProtectionDomain().getCodeSource()
+                .getLocation().getPath()).getParent(), StandardCharsets.UTF_8), "DukeSaveFiles");
+        Path saveFile = saveFolder.resolve("DukeTestSave03.txt");
+        Path blocker = saveFile.resolve("blocker");
+        Files.deleteIfExists(saveFile);
+        assertFalse(duke.getResponse("load DukeTestSave03").wasCausedByError());
+        duke.getResponse("begin");
+        duke.getResponse("todo read book");
+
+        Files.delete(saveFile);
+        Files.createDirectories(blocker);
+        try {
+            assertEquals(ErrorCode.STORAGE, duke.getResponse("commit").getErrorCode());
+            assertFalse(duke.getResponse("rollback").wasCausedByError());
+            assertEquals(0, duke.getResponse("list").getTaskCount());
+            assertEquals(ErrorCode.STORAGE, duke.getResponse("todo read book").getErrorCode());
+        } finally {
+            Files.delete(blocker);
+            Files.delete(saveFile);
+            setUpDuke();
+        }
+    }
+
+    /**
+     * Test that changes can be undone and redone, and that undone changes are saved.
+     */
+    @Test
+    public void getResponse_undoAndRedo_responseNotCausedByError() {
+        assertTrue(duke.getResponse("undo").wasCausedByError());
+        assertTrue(duke.getResponse("redo").wasCausedByError());
+
+        duke.getResponse("todo a");
+        duke.getResponse("todo b");
+        duke.getResponse("delete 1");
+
+        // restores the deleted task
+        assertFalse(duke.getResponse("undo").wasCausedByError());
+        setUpDuke();
+
+        // a new session starts without any history
+        assertTrue(duke.getResponse("undo").wasCausedByError());
+        assertFalse(duke.getResponse("done 2").wasCausedByError());
+        duke.getResponse("delete 2");
+        assertFalse(duke.getResponse("undo").wasCausedByError());
+        assertFalse(duke.getResponse("redo").wasCausedByError());
+        assertTrue(duke.getResponse("redo").wasCausedByError());
+        assertTrue(duke.getResponse("delete 2").wasCausedByError());
+    }
+
+    /**
+     * Test that the changes committed in a transaction are undone together.
+     */
+    @Test
+    public void getResponse_undoCommittedTransaction_allChangesUndone() {
+        duke.getResponse("todo a");
+        duke.getResponse("begin");
+        duke.getResponse("todo b");
+        duke.getResponse("todo c");
+        assertTrue(duke.getResponse("undo").wasCausedByError());
+        duke.getResponse("commit");
+
+        assertFalse(duke.getResponse("undo").wasCausedByError());
+        assertTrue(duke.getResponse("delete 2").wasCausedByError());
+        assertFalse(duke.getResponse("delete 1").wasCausedByError());
+    }
+
+    /**
+     * Test that completions are given for command words and for words in the descriptions of tasks, and are
+     * kept up to date as tasks are added, deleted and restored.
+     */
+    @Test
+    public void getSuggestions_partialInput_completionsReturned() {
+        assertEquals(List.of("deadline", "delete"), duke.getSuggestions("de", 5));
+        assertEquals(List.of("  todo"), duke.getSuggestions("  to", 5));
+
+        duke.getResponse("todo read book");
+        duke.getResponse("todo return book");
+        assertEquals(List.of("find book"), duke.getSuggestions("find Bo", 5));
+        assertEquals(List.of("find read", "find return"), duke.getSuggestions("find re", 5));
+
+        duke.getResponse("delete 1");
+        assertEquals(List.of("find return"), duke.getSuggestions("find re", 5));
+        duke.getResponse("undo");
+        assertEquals(List.of("find read", "find return"), duke.getSuggestions("find re", 5));
+        assertTrue(duke.getSuggestions("find ", 5).isEmpty());
+    }
+
+    /**
+     * Test that the list is displayed one page at a time, numbered by position in the whole list, and that
+     * pages which do not exist result in an error Response from Duke.
+     */
+    @Test
+    public void getResponse_listPages_pageDisplayed() {
+        for (int i = 1; i <= 12; i++) {
+            duke.getResponse("todo task " + i);
+        }
+
+        String lastPage = duke.getResponse("list /page 3 /size 5").toString();
+        assertTrue(lastPage.startsWith("Here are the task(s) in your list (page 3 of 3):\n11. "));
+        assertTrue(lastPage.contains("\n12. [T]") && lastPage.endsWith(" task 12"));
+        assertEquals(3, lastPage.split("\n").length);
+
+        String firstPage = duke.getResponse("list /size 2 /page 1").toString();
+        assertTrue(firstPage.startsWith("Here are the task(s) in your list (page 1 of 6):\n1. "));
+        assertTrue(duke.getResponse("list").toString().contains("\n09. [T]"));
+
+        assertTrue(duke.getResponse("list /page 4 /size 5").wasCausedByError());
+        assertTrue(duke.getResponse("list /page 0").wasCausedByError());
+        assertTrue(duke.getResponse("list /size 0").wasCausedByError());
+        assertTrue(duke.getResponse("list /page a").wasCausedByError());
+    }
+
+    /**
+     * Test that a Response holds the Tasks it shows, and renders the same text into an Appendable as its String
+     * representation.
+     */
+    @Test
+    public void getResponse_tasksFound_structuredResponseReturned() throws IOException {
+        duke.getResponse("todo read book");
+        duke.getResponse("todo return book");
+        duke.getResponse("todo buy milk");
+
+        Response response = duke.getResponse("find book");
+        assertEquals(Response.Kind.TASKS, response.getKind());
+        assertEquals(2, response.getTaskCount());
+        assertEquals("return book", response.getTasks().get(1).getDescription());
+
+        StringBuilder rendered = new StringBuilder();
+        response.renderTo(rendered);
+        assertEquals(response.toString(), rendered.toString());
+        assertTrue(rendered.toString().startsWith("Here are the matching task(s) in your list:\n1. "));
+
+        assertEquals(Response.Kind.MESSAGE, duke.getResponse("find book shelf").getKind());
+        assertEquals(0, duke.getResponse("find book shelf").getTaskCount());
+        assertEquals(Response.Kind.ERROR, duke.getResponse("find").getKind());
+    }
+
+    /**
+     * Test that the programmatic methods of Duke return snapshots of the Tasks and counts, without going through
+     * the text of a Response.
+     */
+    @Test
+    public void addTask_typedMethods_recordsReturned() {
+        Outcome<TaskResult> added = duke.addTask(new Deadline("submit report", "2/12/2019 1800"));
+        assertTrue(added.isSuccess());
+        assertEquals(TaskRecord.Kind.DEADLINE, added.getValue().getTask().getKind());
+        assertEquals(1, added.getValue().getTaskCount());
+        duke.addTask(new ToDo("read report"));
+
+        Outcome<TaskResult> completed = duke.complete(1);
+        assertTrue(completed.getValue().getTask().isComplete());
+        assertTrue(duke.getResponse("list").toString().contains("1. " + completed.getValue().getTask()));
+
+        Outcome<TaskResult> found = duke.search("REPORT");
+        assertEquals(2, found.getValue().getTasks().size());
+        assertEquals(2, found.getValue().getTaskCount());
+
+        Outcome<TaskResult> page = duke.list(2, 1);
+        assertEquals("read report", page.getValue().getTask().getDescription());
+        assertEquals(2, page.getValue().getFirstNumber());
+        assertEquals(2, page.getValue().getPageCount());
+        assertEquals(ErrorCode.NO_SUCH_PAGE, duke.list(3, 1).getErrorCode());
+
+        Outcome<TaskResult> deleted = duke.delete(1);
+        assertTrue(deleted.getValue().getTask().isComplete());
+        assertEquals(1, deleted.getValue().getTaskCount());
+        assertEquals(ErrorCode.NO_CORRESPONDING_TASK, duke.delete(5).getErrorCode());
+    }
+
+    /**
+     * Test that commands for transactions and history result in an error Response, rather than an exception,
+     * when no TaskList has been loaded.
+     */
+    @Test
+    public void getResponse_noTaskListLoaded_transactionAndHistoryCommandsFail() {
+        Duke unloadedDuke = new Duke();
+        unloadedDuke.greet();
+        assertEquals(ErrorCode.NO_TASK_LIST, unloadedDuke.getResponse("begin").getErrorCode());
+        assertEquals(ErrorCode.NO_TASK_LIST, unloadedDuke.getResponse("commit").getErrorCode());
+        assertEquals(ErrorCode.NO_TASK_LIST, unloadedDuke.getResponse("rollback").getErrorCode());
+        assertEquals(ErrorCode.NO_TASK_LIST, unloadedDuke.getResponse("undo").getErrorCode());
+        assertEquals(ErrorCode.NO_TASK_LIST, unloadedDuke.getResponse("redo").getErrorCode());
+    }
+
+    /**
+     * Test that searching and loading stop when the thread running them is interrupted, leaving the current
+     * TaskList as it was.
+     */
+    @Test
+    public void getResponse_interrupted_commandCancelled() {
+        duke.getResponse("todo read book");
+        duke.getResponse("save DukeTestSave02");
+
+        Thread.currentThread().interrupt();
+        try {
+            assertThrows(CancellationException.class, () -> duke.getResponse("relaxfind bok"));
+            assertThrows(CancellationException.class, () -> duke.getResponse("load DukeTestSave02"));
+        } finally {
+            Thread.interrupted();
+        }
+
+        assertFalse(duke.getResponse("relaxfind bok").wasCausedByError());
+        assertTrue(duke.getResponse("delete 2").wasCausedByError());
+        duke.getResponse("load DukeTestSave01");
+    }
+
+    /**
+     * Test that listeners are notified of only the positions affected by each change made to the TaskList.
+     */
+    @Test
+    public void addTaskListListener_changesMade_changesNotified() {
+        duke.getResponse("todo a");
+        ArrayList<TaskListChange> changes = new ArrayList<TaskListChange>();
+        duke.addTaskListListener(changes::add);
+        assertEquals(TaskListChange.Kind.ADDED, changes.get(0).getKind());
+        assertEquals(1, changes.get(0).getToIndex());
+
+        duke.getResponse("todo b");
+        duke.getResponse("done 2");
+        duke.getResponse("delete 1");
+        duke.getResponse("undo");
+        assertEquals(5, changes.size());
+        assertEquals(TaskListChange.Kind.ADDED, changes.get(1).getKind());
+        assertEquals(1, changes.get(1).getFromIndex());
+        assertEquals(TaskListChange.Kind.UPDATED, changes.get(2).getKind());
+        assertEquals(1, changes.get(2).getFromIndex());
+        assertTrue(changes.get(2).getTasks().get(0).isComplete());
+        assertEquals(TaskListChange.Kind.REMOVED, changes.get(3).getKind());
+        assertEquals(0, changes.get(3).getFromIndex());
+        assertEquals(TaskListChange.Kind.ADDED, changes.get(4).getKind());
+        assertEquals("a", changes.get(4).getTasks().get(0).getDescription());
+    }
+
+    /**
+     * Test that searching as the user types narrows the previous results as the query grows, and sees changes
+     * made to the TaskList in between.
+     */
+    @Test
+    public void searchIncrementally_growingQuery_matchingTasksReturned() {
+        duke.getResponse("todo read Book");
+        duke.getResponse("todo borrow pen");
+        duke.getResponse("todo cook");
+
+        assertEquals(2, duke.searchIncrementally("bo").size());
+        assertEquals(1, duke.searchIncrementally("BOO").size());
+        assertEquals(2, duke.searchIncrementally("oo").size());
+
+        duke.getResponse("todo boost");
+        assertEquals(2, duke.searchIncrementally("boo").size());
+        assertEquals("boost", duke.searchIncrementally("boos").get(0).getDescription());
+        assertTrue(duke.searchIncrementally("boost!").isEmpty());
+    }
+
+    /**
+     * Test that commands, saves and searches are counted in the Metrics, which the stats command shows.
+     */
+    @Test
+    public void getResponse_commandsGiven_metricsRecorded() {
+        Metrics metrics = Metrics.GLOBAL;
+        long findCount = metrics.getCommandCountFor("find");
+        long failedCount = metrics.getFailedCommandCount();
+        long invalidCount = metrics.getInvalidInputCount();
+        long saveCount = metrics.getSaveCount();
+        long scannedCount = metrics.getTasksScanned();
+
+        duke.getResponse("todo read book");
+        duke.getResponse("todo return book");
+        duke.getResponse("find book");
+        duke.getResponse("done 3");
+        duke.getResponse("what");
+
+        assertEquals(findCount + 1, metrics.getCommandCountFor("find"));
+        assertEquals(failedCount + 1, metrics.getFailedCommandCount());
+        assertEquals(invalidCount + 1, metrics.getInvalidInputCount());
+        assertEquals(saveCount + 2, metrics.getSaveCount());
+        assertEquals(scannedCount + 2, metrics.getTasksScanned());
+        assertTrue(metrics.getSavedBytes() > 0);
+        assertTrue(metrics.getCommandLatencyMillis("find", 0.99) > 0);
+
+        Response stats = duke.getResponse("stats");
+        assertFalse(stats.wasCausedByError());
+        assertTrue(stats.toString().contains("find"));
+        assertTrue(stats.toString().contains("searches"));
+    }
+
+    /**
+     * Test that a command taking longer than the threshold of the SlowCommandLog is logged once, whether its
+     * Response is rendered, never rendered, or the command is cancelled before it has a Response.
+     */
+    @Test
+    public void getResponse_slowCommand_logged() throws IOException, InterruptedException {
+        Path logFile = Files.createTempFile("DukeTestSlowCommands", ".log");
+        try {
+            SlowCommandLog log = new SlowCommandLog(logFile, 0);
+            duke.setSlowCommandLog(log);
+
+            duke.getResponse("todo read book").toString();
+            duke.getResponse("list");
+            Thread.currentThread().interrupt();
+            try {
+                assertThrows(CancellationException.class, () -> duke.getResponse("relaxfind bok"));
+            } finally {
+                Thread.interrupted();
+            }
+
+            assertTrue(log.awaitWritten(5000));
+            List<String> lines = Files.readAllLines(logFile);
+            assertEquals(3, lines.size());
+            assertTrue(lines.get(0).contains("command=todo"));
+            assertTrue(lines.get(0).contains("input=\"todo read book\""));
+            assertTrue(lines.get(1).contains("command=list"));
+            assertTrue(lines.get(2).contains("command=relaxfind"));
+        } finally {
+            Files.deleteIfExists(logFile);
+        }
+    }
+}